@@ -0,0 +1,18 @@
+package com.venue.management.cache;
+
+/**
+ * Point-in-time counters of a cache.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, int capacity) {
+
+    /**
+     * Fraction of lookups answered from the cache, or 0 before the first lookup.
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
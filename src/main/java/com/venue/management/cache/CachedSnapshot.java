@@ -0,0 +1,60 @@
+package com.venue.management.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single cached value, such as a list that is expensive to query but rarely changes.
+ * The value is loaded on first use and kept until it is invalidated. A load that
+ * overlaps an invalidation is returned to its caller but not kept, so a stale value
+ * can never outlive the write that invalidated it.
+ *
+ * @param <T> Value type
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class CachedSnapshot<T> {
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile T value;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Returns the cached value, loading it with the given loader on a miss.
+     */
+    public T get(Supplier<T> loader) {
+        T current = value;
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        long before = generation.get();
+        T loaded = loader.get();
+        synchronized (this) {
+            if (generation.get() == before) {
+                value = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        if (value != null) {
+            invalidations.increment();
+        }
+        value = null;
+    }
+
+    /**
+     * Counters of this snapshot; invalidations of a loaded value are reported as evictions.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), invalidations.sum(), value != null ? 1 : 0, 1);
+    }
+}
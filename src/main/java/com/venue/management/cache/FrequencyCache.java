@@ -0,0 +1,163 @@
+package com.venue.management.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded in-memory cache with frequency-aware eviction.
+ * Entries are kept in LRU order; when the cache is full a new key is only admitted
+ * if it has been requested more often than the least recently used entry, so a burst
+ * of one-off lookups cannot flush the entries that are read all the time.
+ * Request frequencies are estimated with a small count-min sketch whose counters are
+ * halved periodically, so old popularity fades out.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class FrequencyCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public FrequencyCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    /**
+     * Returns the cached value for a key, or null on a miss.
+     * Every lookup counts towards the key's frequency, hit or miss.
+     */
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        V value = entries.get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value. When the cache is full the value is only admitted if its key
+     * is more frequent than the eviction candidate.
+     *
+     * @return true if the value is now cached
+     */
+    public synchronized boolean put(K key, V value) {
+        if (entries.containsKey(key) || entries.size() < capacity) {
+            entries.put(key, value);
+            return true;
+        }
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        K victim = eldest.next().getKey();
+        if (sketch.frequency(key) <= sketch.frequency(victim)) {
+            return false;
+        }
+        eldest.remove();
+        evictions.increment();
+        entries.put(key, value);
+        return true;
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size(), capacity);
+    }
+
+    /**
+     * Count-min sketch with four 4-bit counters per key, stored as nibbles of a long[].
+     * After sampleSize increments all counters are halved (aging).
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int length = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+            this.table = new long[length];
+            this.sampleSize = 10 * capacity;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterOffset(hash, i);
+                if (((table[index] >>> shift) & 0xFL) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int count = (int) ((table[indexOf(hash, i)] >>> counterOffset(hash, i)) & 0xFL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+
+        private int counterOffset(int hash, int i) {
+            // Each row of the sketch uses its own quarter of the 16 nibbles in a long
+            return ((i << 2) + ((hash >>> (i << 3)) & 3)) << 2;
+        }
+
+        private static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.venue.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executor that applies payment gateway answers to the database, so gateway
+ * callback threads never run JDBC work. When the queue is full the callback thread
+ * records the answer itself rather than dropping it.
+ */
+@Configuration
+public class PaymentConfig {
+
+    @Bean(name = "paymentExecutor")
+    public ThreadPoolTaskExecutor paymentExecutor(@Value("${payments.processing.threads:2}") int threads,
+                                                  @Value("${payments.processing.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.venue.management.config;
 
+import com.venue.management.security.AccountChangeTracker;
+import com.venue.management.security.PrincipalRevalidationFilter;
 import com.venue.management.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -8,10 +10,12 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 //import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
@@ -21,6 +25,9 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private AccountChangeTracker changeTracker;
+
     @Bean
     public static PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -34,6 +41,12 @@ public class SecurityConfig {
         return provider;
     }
 
+    // Venue images are public and immutable: skip the security filters (and the session lookup) entirely
+    @Bean
+    public WebSecurityCustomizer publicImages() {
+        return web -> web.ignoring().requestMatchers(new AntPathRequestMatcher("/media/**"));
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -55,7 +68,9 @@ public class SecurityConfig {
                 .logoutRequestMatcher(new AntPathRequestMatcher("/logout"))
                 .logoutSuccessUrl("/login?logout")
                 .permitAll()
-            );
+            )
+            // Sessions of accounts changed by an admin are revalidated before authorization
+            .addFilterBefore(new PrincipalRevalidationFilter(changeTracker, userDetailsService), AuthorizationFilter.class);
         return http.build();
     }
 }
@@ -0,0 +1,141 @@
+package com.venue.management.config;
+
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.CodedStatus;
+import com.venue.management.entity.PaymentStatus;
+import com.venue.management.entity.TicketStatus;
+import com.venue.management.entity.VenueStatus;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Rewrites the status columns of databases created before statuses were stored as codes:
+ * each status name (e.g. "CONFIRMED") becomes its one-character code and the column is
+ * narrowed to VARCHAR(1). Bookings without a status become PENDING.
+ *
+ * Runs before the entity manager factory, so no query ever reads a status name. A column
+ * already one character wide is left alone, so this is a no-op once it has run. Unknown
+ * values in any of the columns stop the startup before anything is changed.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Configuration
+public class StatusColumnMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusColumnMigration.class);
+
+    private static final String COLUMN_LENGTH = "SELECT CHARACTER_MAXIMUM_LENGTH FROM information_schema.COLUMNS "
+        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor statusColumnsBeforeJpa() {
+        return new EntityManagerFactoryDependsOnPostProcessor(StatusColumnMigration.class);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        // Every column is checked before any is rewritten
+        List<Plan> plans = new ArrayList<>();
+        addPlan(plans, "bookings", "status", BookingStatus.class, BookingStatus.PENDING);
+        addPlan(plans, "payments", "payment_status", PaymentStatus.class, null);
+        addPlan(plans, "venues", "status", VenueStatus.class, VenueStatus.AVAILABLE);
+        addPlan(plans, "support_tickets", "ticket_status", TicketStatus.class, null);
+        for (Plan plan : plans) {
+            apply(plan);
+        }
+    }
+
+    /**
+     * The rewrite of one column.
+     *
+     * @param renames Stored values mapped to their codes
+     * @param nullCode Code given to rows without a status, and the column made NOT NULL; null keeps NULLs
+     */
+    private record Plan(String table, String column, Map<String, String> renames, String nullCode) {
+    }
+
+    /**
+     * Plans the rewrite of one column, unless it is already migrated.
+     *
+     * @param plans The plans so far
+     * @param table The table
+     * @param column The status column
+     * @param type The status enum
+     * @param ifNull Status given to rows without one; null keeps NULLs
+     * @throws IllegalStateException if the column holds values that are not statuses
+     */
+    private <S extends Enum<S> & CodedStatus> void addPlan(List<Plan> plans, String table, String column,
+                                                          Class<S> type, S ifNull) {
+        List<Integer> lengths = jdbcTemplate.queryForList(COLUMN_LENGTH, Integer.class, table, column);
+        if (lengths.isEmpty() || lengths.get(0) == null || lengths.get(0) <= 1) {
+            // Not created yet (Hibernate creates it narrow) or already migrated
+            return;
+        }
+
+        List<String> values = jdbcTemplate.queryForList(
+            "SELECT DISTINCT " + column + " FROM " + table + " WHERE " + column + " IS NOT NULL", String.class);
+        Map<String, String> renames = new LinkedHashMap<>();
+        List<String> unknown = new ArrayList<>();
+        for (String value : values) {
+            S status = parse(type, value);
+            if (status == null) {
+                unknown.add(value);
+            } else if (!status.getCode().equals(value)) {
+                renames.put(value, status.getCode());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Cannot migrate " + table + "." + column + ": unknown statuses " + unknown);
+        }
+        plans.add(new Plan(table, column, renames, ifNull != null ? ifNull.getCode() : null));
+    }
+
+    /**
+     * Rewrites the values of one column and narrows it.
+     */
+    private void apply(Plan plan) {
+        String table = plan.table();
+        String column = plan.column();
+        int rows = 0;
+        for (Map.Entry<String, String> rename : plan.renames().entrySet()) {
+            rows += jdbcTemplate.update("UPDATE " + table + " SET " + column + " = ? WHERE " + column + " = ?",
+                rename.getValue(), rename.getKey());
+        }
+        if (plan.nullCode() != null) {
+            rows += jdbcTemplate.update("UPDATE " + table + " SET " + column + " = ? WHERE " + column + " IS NULL",
+                plan.nullCode());
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " VARCHAR(1)"
+            + (plan.nullCode() != null ? " NOT NULL" : " NULL"));
+        logger.info("Migrated {}.{} to status codes ({} rows rewritten)", table, column, rows);
+    }
+
+    /**
+     * Reads a stored status: its name in any case, or its code.
+     */
+    private static <S extends Enum<S> & CodedStatus> S parse(Class<S> type, String value) {
+        String trimmed = value.trim();
+        for (S status : type.getEnumConstants()) {
+            if (status.name().equals(trimmed.toUpperCase(Locale.ROOT)) || status.getCode().equals(trimmed)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
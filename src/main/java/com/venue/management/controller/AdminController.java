@@ -1,9 +1,10 @@
 package com.venue.management.controller;
 
-import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
-import com.venue.management.repository.UserRepository;
+import com.venue.management.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,10 +12,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/admin")
@@ -22,34 +23,32 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
 
     @GetMapping("/approvals")
-    public String viewPendingApprovals(Model model) {
-        // Fetch all users who are EVENT_MANAGER and NOT enabled
-        List<User> allUsers = (List<User>) userRepository.findAll();
-        List<User> pendingManagers = allUsers.stream()
-                .filter(u -> u.getRole() == Role.EVENT_MANAGER && !u.isEnabled())
-                .toList();
-        
-     // Example addition to AdminController.java
-        List<User> approvedManagers = allUsers 
-            .stream()
-            .filter(u -> u.getRole() == Role.EVENT_MANAGER && u.isEnabled())
-            .collect(Collectors.toList());
-        
-        model.addAttribute("approvedManagers", approvedManagers);
-        
-        model.addAttribute("pendingManagers", pendingManagers);
+    public String viewPendingApprovals(@RequestParam(defaultValue = "0") int pendingPage,
+                                       @RequestParam(defaultValue = "0") int approvedPage,
+                                       @RequestParam(defaultValue = "20") int size,
+                                       Model model) {
+        // One indexed page of each list instead of the whole users table
+        Page<User> pendingManagers = userService.getManagers(false, PageRequest.of(pendingPage, size));
+        Page<User> approvedManagers = userService.getManagers(true, PageRequest.of(approvedPage, size));
+
+        model.addAttribute("pendingManagers", pendingManagers.getContent());
+        model.addAttribute("approvedManagers", approvedManagers.getContent());
+        model.addAttribute("pendingCount", pendingManagers.getTotalElements());
+        model.addAttribute("approvedCount", approvedManagers.getTotalElements());
+        model.addAttribute("pendingPage", pendingPage);
+        model.addAttribute("pendingTotalPages", pendingManagers.getTotalPages());
+        model.addAttribute("approvedPage", approvedPage);
+        model.addAttribute("approvedTotalPages", approvedManagers.getTotalPages());
+        model.addAttribute("size", size);
         return "admin/approvals";
     }
 
     @PostMapping("/approve/{userId}")
     public String approveManager(@PathVariable Long userId, RedirectAttributes redirectAttributes) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && user.getRole() == Role.EVENT_MANAGER) {
-            user.setEnabled(true);
-            userRepository.save(user);
+        if (userService.approveManagers(List.of(userId)) > 0) {
             redirectAttributes.addFlashAttribute("success", "Event Manager approved successfully!");
         } else {
             redirectAttributes.addFlashAttribute("error", "User not found or invalid role.");
@@ -59,13 +58,30 @@ public class AdminController {
 
     @PostMapping("/reject/{userId}")
     public String rejectManager(@PathVariable Long userId, RedirectAttributes redirectAttributes) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && user.getRole() == Role.EVENT_MANAGER) {
-            // Delete the user request
-            userRepository.delete(user);
-            
+        if (userService.rejectManagers(List.of(userId)) > 0) {
             redirectAttributes.addFlashAttribute("success", "Request rejected and removed.");
         }
         return "redirect:/admin/approvals";
     }
+
+    @PostMapping("/approvals/bulk")
+    public String bulkDecision(@RequestParam(name = "userIds", required = false) List<Long> userIds,
+                               @RequestParam String action,
+                               RedirectAttributes redirectAttributes) {
+        if (userIds == null || userIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Select at least one request.");
+            return "redirect:/admin/approvals";
+        }
+
+        if ("approve".equals(action)) {
+            int approved = userService.approveManagers(userIds);
+            redirectAttributes.addFlashAttribute("success", approved + " Event Manager(s) approved.");
+        } else if ("reject".equals(action)) {
+            int rejected = userService.rejectManagers(userIds);
+            redirectAttributes.addFlashAttribute("success", rejected + " request(s) rejected and removed.");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Unknown action.");
+        }
+        return "redirect:/admin/approvals";
+    }
 }
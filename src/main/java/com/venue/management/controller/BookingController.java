@@ -1,11 +1,15 @@
 package com.venue.management.controller;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.BookingRow;
 import com.venue.management.service.BookingService;
-import com.venue.management.service.UserService;
 import com.venue.management.service.VenueService;
+import com.venue.management.security.CurrentUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,13 +17,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import java.time.LocalDate;
+import java.util.UUID;
 /**
  * Controller for handling booking-related HTTP requests.
  * Provides endpoints for listing, creating, and managing bookings with pagination, sorting, filtering, and search.
@@ -39,36 +44,77 @@ public class BookingController {
     @Autowired
     private VenueService venueService;
 
-    @Autowired
-    private UserService userService;
+    /**
+     * The row version of a booking is only set by the server; a posted one would make
+     * a new booking look like an update of an existing row.
+     * 
+     * @param binder Binder of the booking form
+     */
+    @InitBinder("booking")
+    public void initBookingBinder(WebDataBinder binder) {
+        binder.setDisallowedFields("version");
+    }
 
     /**
      * Lists all bookings with pagination, sorting, filtering, and search.
      * 
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @param page Page number (default: 0)
      * @param size Page size (default: 10)
      * @param sortBy Sort field (default: "bookingId")
      * @param sortDir Sort direction: "asc" or "desc" (default: "desc")
      * @param status Optional status filter
      * @param search Optional search term
+     * @param from Optional start of the date range
+     * @param to Optional end of the date range
+     * @param paging Pagination mode: "keyset" (default) or "offset"
+     * @param cursor Opaque keyset cursor of the page to show
      * @param model The model to add attributes
      * @return The view name for bookings list
      */
     @GetMapping
-    public String listBookings(@AuthenticationPrincipal UserDetails userDetails, 
+    public String listBookings(@CurrentUser User user, 
                                @RequestParam(defaultValue = "0") int page,
                                @RequestParam(defaultValue = "10") int size,
                                @RequestParam(defaultValue = "bookingId") String sortBy,
                                @RequestParam(defaultValue = "desc") String sortDir,
                                @RequestParam(required = false) String status,
                                @RequestParam(required = false) String search,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(defaultValue = "keyset") String paging,
+                               @RequestParam(required = false) String cursor,
                                Model model) {
-        logger.info("Listing bookings for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}", 
-            userDetails.getUsername(), page, size, sortBy, sortDir, status, search);
+        logger.info("Listing bookings for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}, paging: {}", 
+            user.getUsername(), page, size, sortBy, sortDir, status, search, paging);
         
         try {
-            User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+            ListFilter filter = new ListFilter(status, search, from, to);
+            boolean seesAll = user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER");
+            
+            model.addAttribute("currentStatus", status);
+            model.addAttribute("currentSearch", search);
+            model.addAttribute("currentFrom", from);
+            model.addAttribute("currentTo", to);
+            model.addAttribute("sortBy", sortBy);
+            model.addAttribute("sortDir", sortDir);
+            model.addAttribute("size", size);
+            model.addAttribute("paging", paging);
+            
+            if (!paging.equalsIgnoreCase("offset")) {
+                // Keyset mode: seek past the cursor row, no OFFSET and no COUNT(*)
+                Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+                CursorPage<BookingRow> bookingSlice = seesAll
+                    ? bookingService.scrollAllBookings(filter, order, cursor, size)
+                    : bookingService.scrollCustomerBookings(user, filter, order, cursor, size);
+                
+                model.addAttribute("bookings", bookingSlice.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("nextCursor", bookingSlice.getNextCursor());
+                model.addAttribute("previousCursor", bookingSlice.getPreviousCursor());
+                logger.info("Displayed {} bookings (keyset)", bookingSlice.getContent().size());
+                return "booking/list";
+            }
             
             // Create Sort object based on sortBy and sortDir
             Sort sort = sortDir.equalsIgnoreCase("asc") 
@@ -78,38 +124,21 @@ public class BookingController {
             // Define paging and sorting
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            // Auto-mark bookings as COMPLETED if current date passes end date
-            List<Booking> allBookings = bookingService.getTotalBookings();
-            
-            LocalDate currentDate = LocalDate.now();
-            for (Booking booking : allBookings) {
-                if (!"COMPLETED".equals(booking.getStatus()) && 
-                    !"CANCELLED".equals(booking.getStatus()) && 
-                    booking.getEndDate() != null &&
-                    currentDate.isAfter(booking.getEndDate())) {
-                    logger.debug("Auto-marking booking {} as COMPLETED", booking.getBookingId());
-                    bookingService.updateStatus(booking.getBookingId(), "COMPLETED");
-                }
-            }
-            
+            // Bookings past their end date are completed by BookingCompletionScheduler;
+            // this endpoint only reads.
             
             // Admins and managers see all, customers see theirs
-            Page<Booking> bookingPage;
-            if (user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER")) {
-                bookingPage = bookingService.getAllBookings(status, search, pageable);
+            Page<BookingRow> bookingPage;
+            if (seesAll) {
+                bookingPage = bookingService.getAllBookings(filter, pageable);
             } else {
-                bookingPage = bookingService.getCustomerBookings(user, status, search, pageable);
+                bookingPage = bookingService.getCustomerBookings(user, filter, pageable);
             }
 
             model.addAttribute("bookings", bookingPage.getContent());
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", bookingPage.getTotalPages());
             model.addAttribute("totalElements", bookingPage.getTotalElements());
-            model.addAttribute("currentStatus", status);
-            model.addAttribute("currentSearch", search);
-            model.addAttribute("sortBy", sortBy);
-            model.addAttribute("sortDir", sortDir);
-            model.addAttribute("size", size);
             
             logger.info("Displayed {} bookings (page {} of {})", 
                 bookingPage.getContent().size(), page + 1, bookingPage.getTotalPages());
@@ -125,11 +154,16 @@ public class BookingController {
      * Displays the booking creation page for a specific venue.
      * 
      * @param venueId The venue ID
+     * @param from Optional start date to prefill (e.g. from the availability search)
+     * @param to Optional end date to prefill
      * @param model The model to add attributes
      * @return The view name for booking creation
      */
     @GetMapping("/create/{venueId}")
-    public String createBookingPage(@PathVariable Long venueId, Model model) {
+    public String createBookingPage(@PathVariable Long venueId,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                    Model model) {
         logger.info("Displaying booking creation page for venue ID: {}", venueId);
         
         try {
@@ -137,7 +171,11 @@ public class BookingController {
                 .orElseThrow(() -> new RuntimeException("Venue not found"));
             Booking booking = new Booking();
             booking.setVenue(venue);
+            booking.setEventDate(from);
+            booking.setEndDate(to);
             model.addAttribute("booking", booking);
+            // Lets a re-posted form return the first booking instead of booking twice
+            model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
         } catch (Exception e) {
             logger.error("Error loading booking creation page: {}", e.getMessage(), e);
             model.addAttribute("error", "Error loading venue: " + e.getMessage());
@@ -152,25 +190,25 @@ public class BookingController {
      * 
      * @param venueId The venue ID
      * @param booking The booking data
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
+     * @param idempotencyKey Token of the booking form
      * @param model The model to add attributes
      * @return Redirect to bookings list or booking creation page on error
      */
     @PostMapping("/create")
     public String createBooking(@RequestParam("venueId") Long venueId, 
                                @ModelAttribute Booking booking, 
-                               @AuthenticationPrincipal UserDetails userDetails, 
+                               @CurrentUser User user, 
+                               @RequestParam(name = "idempotencyKey", required = false) String idempotencyKey,
                                Model model) {
         logger.info("Creating booking for venue ID: {} by user: {}", 
-            venueId, userDetails.getUsername());
+            venueId, user.getUsername());
         
         try {
             Venue venue = venueService.getVenueById(venueId)
                 .orElseThrow(() -> new RuntimeException("Venue not found"));
             booking.setVenue(venue);
             
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
             booking.setUser(user);
             
             // Set start date to current date if not provided
@@ -183,13 +221,15 @@ public class BookingController {
                 booking.setEndDate(booking.getEventDate());
             }
             
-            bookingService.createBooking(booking);
-            logger.info("Booking created successfully with ID: {}", booking.getBookingId());
-            return "redirect:/payments/pay/"+booking.getBookingId();
+            Booking created = bookingService.createBooking(booking, idempotencyKey);
+            logger.info("Booking created successfully with ID: {}", created.getBookingId());
+            return "redirect:/payments/pay/"+created.getBookingId();
         } catch (Exception e) {
             logger.error("Error creating booking: {}", e.getMessage(), e);
             model.addAttribute("error", e.getMessage());
             model.addAttribute("booking", booking);
+            // The failed attempt recorded nothing, so the form can be resubmitted with the same token
+            model.addAttribute("idempotencyKey", idempotencyKey);
             try {
                 model.addAttribute("venue", venueService.getVenueById(venueId).orElseThrow());
             } catch (Exception ex) {
@@ -203,17 +243,20 @@ public class BookingController {
      * Cancels a booking.
      * 
      * @param id The booking ID
+     * @param redirectAttributes The redirect attributes
      * @return Redirect to bookings list
      */
     @GetMapping("/cancel/{id}")
-    public String cancelBooking(@PathVariable Long id) {
+    public String cancelBooking(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         logger.info("Cancelling booking ID: {}", id);
         
         try {
-            bookingService.updateStatus(id, "CANCELLED");
+            bookingService.updateStatus(id, BookingStatus.CANCELLED);
+            redirectAttributes.addFlashAttribute("success", "Booking cancelled successfully!");
             logger.info("Booking {} cancelled successfully", id);
         } catch (Exception e) {
             logger.error("Error cancelling booking {}: {}", id, e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "Error cancelling booking: " + e.getMessage());
         }
         
         return "redirect:/bookings";
@@ -223,17 +266,20 @@ public class BookingController {
      * Marks a booking as completed.
      * 
      * @param id The booking ID
+     * @param redirectAttributes The redirect attributes
      * @return Redirect to bookings list
      */
     @GetMapping("/complete/{id}")
-    public String completeBooking(@PathVariable Long id) {
+    public String completeBooking(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         logger.info("Completing booking ID: {}", id);
         
         try {
-            bookingService.updateStatus(id, "COMPLETED");
+            bookingService.updateStatus(id, BookingStatus.COMPLETED);
+            redirectAttributes.addFlashAttribute("success", "Booking marked as completed!");
             logger.info("Booking {} completed successfully", id);
         } catch (Exception e) {
             logger.error("Error completing booking {}: {}", id, e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "Error completing booking: " + e.getMessage());
         }
         
         return "redirect:/bookings";
@@ -0,0 +1,187 @@
+package com.venue.management.controller;
+
+import com.venue.management.cache.FrequencyCache;
+import com.venue.management.service.image.ByteRange;
+import com.venue.management.service.image.ImageStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Serves venue images from the image store by content hash.
+ *
+ * An image URL never changes content, so responses carry the hash as a strong ETag and
+ * are cacheable forever ({@code immutable}). Single byte ranges are supported. The body
+ * is handed to Tomcat's sendfile when the connector supports it, otherwise copied with
+ * {@link FileChannel#transferTo}; either way it does not pass through heap buffers.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Controller
+public class ImageController {
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+
+    // Tomcat request attributes for sendfile (see org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ImageStore imageStore;
+
+    // Content is immutable per hash, so its sniffed type can be cached indefinitely
+    private final FrequencyCache<String, MediaType> contentTypes = new FrequencyCache<>(1024);
+
+    /**
+     * Serves an image (GET and HEAD), honouring If-None-Match, Range and If-Range.
+     *
+     * @param hash The image's content hash
+     * @param request The HTTP request
+     * @param response The HTTP response
+     * @throws IOException if the image cannot be read or sent
+     */
+    @GetMapping("/media/{hash}")
+    public void image(@PathVariable String hash, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Resource image = imageStore.load(hash).orElse(null);
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + hash + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // The security filters that normally add this header are skipped for images
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = image.contentLength();
+        response.setContentType(contentType(hash, image).toString());
+
+        ByteRange range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && ifRange != null && !ifRange.equals(etag)) {
+            // The client's partial copy is of other content: send the whole image
+            range = null;
+        }
+        if (range != null && !range.isSatisfiable()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = 0;
+        long count = length;
+        if (range != null) {
+            start = range.start();
+            count = range.length();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + length);
+        }
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        send(image, start, count, request, response);
+    }
+
+    private void send(Resource image, long start, long count, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (!image.isFile()) {
+            try (InputStream in = image.getInputStream()) {
+                StreamUtils.copyRange(in, response.getOutputStream(), start, start + count - 1);
+            }
+            return;
+        }
+
+        Path file = image.getFile().toPath();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file with sendfile after this method returns; end is exclusive
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Stored images have no file extension, so the type is read from the first bytes.
+     * Anything but a raster image is sent as a download type, so it never renders as a page.
+     */
+    private MediaType contentType(String hash, Resource image) throws IOException {
+        MediaType cached = contentTypes.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        MediaType type;
+        try (InputStream in = new BufferedInputStream(image.getInputStream())) {
+            String guessed = URLConnection.guessContentTypeFromStream(in);
+            type = isRasterImage(guessed) ? MediaType.parseMediaType(guessed) : MediaType.APPLICATION_OCTET_STREAM;
+        }
+        contentTypes.put(hash, type);
+        return type;
+    }
+
+    private static boolean isRasterImage(String type) {
+        // SVG is an image type too, but it can carry scripts
+        return type != null && type.startsWith("image/") && !type.startsWith("image/svg");
+    }
+
+    /**
+     * Checks an If-None-Match header against the ETag (weak comparison, as the spec requires).
+     */
+    private static boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
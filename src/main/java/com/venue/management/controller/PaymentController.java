@@ -3,13 +3,14 @@ package com.venue.management.controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.TransactionException;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -17,13 +18,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.Payment;
 import com.venue.management.entity.User;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.PaymentRow;
 import com.venue.management.service.BookingService;
 import com.venue.management.service.PaymentService;
-import com.venue.management.service.UserService;
+import com.venue.management.security.CurrentUser;
+
+import java.time.LocalDate;
+import java.util.UUID;
 
 /**
  * Controller for handling payment-related HTTP requests.
@@ -39,8 +47,6 @@ public class PaymentController {
     private static final Logger logger = LoggerFactory.getLogger(PaymentController.class);
     @Autowired
     private PaymentService paymentService;
-    @Autowired
-    private UserService userService;
     
     @Autowired
     private BookingService bookingService;
@@ -74,6 +80,8 @@ public class PaymentController {
             logger.debug("Calculated payment amount: {} for {} days", totalAmount, days);
             
             model.addAttribute("payment", payment);
+            // Lets a re-posted form return the first payment instead of paying twice
+            model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
         } catch (Exception e) {
             logger.error("Error loading payment page: {}", e.getMessage(), e);
             model.addAttribute("error", "Error loading booking: " + e.getMessage());
@@ -88,20 +96,29 @@ public class PaymentController {
      * 
      * @param bookingId The booking ID
      * @param payment The payment data
+     * @param idempotencyKey Token of the payment form
+     * @param redirectAttributes The redirect attributes
      * @return Redirect to bookings list
      */
     @PostMapping("/process")
     public String processPayment(@RequestParam("bookingId") Long bookingId, 
-                                @ModelAttribute Payment payment) {
+                                @ModelAttribute Payment payment,
+                                @RequestParam(name = "idempotencyKey", required = false) String idempotencyKey,
+                                RedirectAttributes redirectAttributes) {
         logger.info("Processing payment for booking ID: {}", bookingId);
         
         try {
             Booking booking = bookingService.getBookingById(bookingId);
             payment.setBooking(booking);
-            paymentService.processPayment(payment);
+            paymentService.processPayment(payment, idempotencyKey);
+            redirectAttributes.addFlashAttribute("success", "Payment submitted successfully!");
             logger.info("Payment processed successfully for booking ID: {}", bookingId);
-        } catch (Exception e) {
-            logger.error("Error processing payment: {}", e.getMessage(), e);
+        } catch (DataAccessException | TransactionException e) {
+            // Not caused by the request; left to the error handling
+            throw e;
+        } catch (RuntimeException e) {
+            logger.error("Error processing payment for booking {}: {}", bookingId, e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "Error processing payment: " + e.getMessage());
         }
         
         return "redirect:/bookings";
@@ -110,31 +127,60 @@ public class PaymentController {
     /**
      * Lists payments for the authenticated user with pagination, sorting, filtering, and search.
      * 
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @param page Page number (default: 0)
      * @param size Page size (default: 10)
      * @param sortBy Sort field (default: "paymentId")
      * @param sortDir Sort direction: "asc" or "desc" (default: "desc")
      * @param status Optional status filter
      * @param search Optional search term
+     * @param from Optional start of the date range
+     * @param to Optional end of the date range
+     * @param paging Pagination mode: "keyset" (default) or "offset"
+     * @param cursor Opaque keyset cursor of the page to show
      * @param model The model to add attributes
      * @return The view name for user payments
      */
     @GetMapping("/my-payments")
-    public String myPayments(@AuthenticationPrincipal UserDetails userDetails,
+    public String myPayments(@CurrentUser User user,
                              @RequestParam(defaultValue = "0") int page,
                              @RequestParam(defaultValue = "10") int size,
                              @RequestParam(defaultValue = "paymentId") String sortBy,
                              @RequestParam(defaultValue = "desc") String sortDir,
                              @RequestParam(required = false) String status,
                              @RequestParam(required = false) String search,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                             @RequestParam(defaultValue = "keyset") String paging,
+                             @RequestParam(required = false) String cursor,
                              Model model) {
-        logger.info("Listing payments for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}", 
-            userDetails.getUsername(), page, size, sortBy, sortDir, status, search);
+        logger.info("Listing payments for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}, paging: {}", 
+            user.getUsername(), page, size, sortBy, sortDir, status, search, paging);
         
         try {
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            ListFilter filter = new ListFilter(status, search, from, to);
+            
+            model.addAttribute("currentStatus", status);
+            model.addAttribute("currentSearch", search);
+            model.addAttribute("currentFrom", from);
+            model.addAttribute("currentTo", to);
+            model.addAttribute("sortBy", sortBy);
+            model.addAttribute("sortDir", sortDir);
+            model.addAttribute("size", size);
+            model.addAttribute("paging", paging);
+            
+            if (!paging.equalsIgnoreCase("offset")) {
+                // Keyset mode: seek past the cursor row, no OFFSET and no COUNT(*)
+                Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+                CursorPage<PaymentRow> paymentSlice = paymentService.scrollUserPayments(user, filter, order, cursor, size);
+                
+                model.addAttribute("payments", paymentSlice.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("nextCursor", paymentSlice.getNextCursor());
+                model.addAttribute("previousCursor", paymentSlice.getPreviousCursor());
+                logger.info("Displayed {} payments for user (keyset)", paymentSlice.getContent().size());
+                return "payment/my-payments";
+            }
             
             // Create Sort object based on sortBy and sortDir
             Sort sort = sortDir.equalsIgnoreCase("asc") 
@@ -143,17 +189,12 @@ public class PaymentController {
             
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Payment> paymentPage = paymentService.getUserPayments(user, status, search, pageable);
+            Page<PaymentRow> paymentPage = paymentService.getUserPayments(user, filter, pageable);
             
             model.addAttribute("payments", paymentPage.getContent());
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", paymentPage.getTotalPages());
             model.addAttribute("totalElements", paymentPage.getTotalElements());
-            model.addAttribute("currentStatus", status);
-            model.addAttribute("currentSearch", search);
-            model.addAttribute("sortBy", sortBy);
-            model.addAttribute("sortDir", sortDir);
-            model.addAttribute("size", size);
             
             logger.info("Displayed {} payments for user (page {} of {})", 
                 paymentPage.getContent().size(), page + 1, paymentPage.getTotalPages());
@@ -174,6 +215,10 @@ public class PaymentController {
      * @param sortDir Sort direction: "asc" or "desc" (default: "desc")
      * @param status Optional status filter
      * @param search Optional search term
+     * @param from Optional start of the date range
+     * @param to Optional end of the date range
+     * @param paging Pagination mode: "keyset" (default) or "offset"
+     * @param cursor Opaque keyset cursor of the page to show
      * @param model The model to add attributes
      * @return The view name for admin payments
      */
@@ -184,28 +229,47 @@ public class PaymentController {
                                 @RequestParam(defaultValue = "desc") String sortDir,
                                 @RequestParam(required = false) String status,
                                 @RequestParam(required = false) String search,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                @RequestParam(defaultValue = "keyset") String paging,
+                                @RequestParam(required = false) String cursor,
                                 Model model) {
-        logger.info("Listing admin payments with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}", 
-            page, size, sortBy, sortDir, status, search);
+        logger.info("Listing admin payments with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}, paging: {}", 
+            page, size, sortBy, sortDir, status, search, paging);
         
         try {
-            // Create Sort object based on sortBy and sortDir
-            Sort sort = sortDir.equalsIgnoreCase("asc") 
-                ? Sort.by(sortBy).ascending() 
-                : Sort.by(sortBy).descending();
-            
-            Pageable pageable = PageRequest.of(page, size, sort);
-            Page<Payment> paymentPage = paymentService.getAllPayments(status, search, pageable);
-            
-            model.addAttribute("allPayments", paymentPage.getContent());
-            model.addAttribute("currentPage", page);
-            model.addAttribute("totalPages", paymentPage.getTotalPages());
-            model.addAttribute("totalElements", paymentPage.getTotalElements());
+            ListFilter filter = new ListFilter(status, search, from, to);
+            if (!paging.equalsIgnoreCase("offset")) {
+                // Keyset mode: seek past the cursor row, no OFFSET and no COUNT(*)
+                Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+                CursorPage<PaymentRow> paymentSlice = paymentService.scrollAllPayments(filter, order, cursor, size);
+                
+                model.addAttribute("allPayments", paymentSlice.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("nextCursor", paymentSlice.getNextCursor());
+                model.addAttribute("previousCursor", paymentSlice.getPreviousCursor());
+            } else {
+                // Create Sort object based on sortBy and sortDir
+                Sort sort = sortDir.equalsIgnoreCase("asc") 
+                    ? Sort.by(sortBy).ascending() 
+                    : Sort.by(sortBy).descending();
+                
+                Pageable pageable = PageRequest.of(page, size, sort);
+                Page<PaymentRow> paymentPage = paymentService.getAllPayments(filter, pageable);
+                
+                model.addAttribute("allPayments", paymentPage.getContent());
+                model.addAttribute("currentPage", page);
+                model.addAttribute("totalPages", paymentPage.getTotalPages());
+                model.addAttribute("totalElements", paymentPage.getTotalElements());
+            }
             model.addAttribute("currentStatus", status);
             model.addAttribute("currentSearch", search);
+            model.addAttribute("currentFrom", from);
+            model.addAttribute("currentTo", to);
             model.addAttribute("sortBy", sortBy);
             model.addAttribute("sortDir", sortDir);
             model.addAttribute("size", size);
+            model.addAttribute("paging", paging);
             
             // Load Statistics
             model.addAttribute("totalEarnings", paymentService.getTotalEarnings());
@@ -214,8 +278,7 @@ public class PaymentController {
             model.addAttribute("refundedPaymentsCount", paymentService.getRefundedPaymentsCount());
             model.addAttribute("totalRefundedAmount", paymentService.getTotalRefundedAmount());
             
-            logger.info("Displayed {} admin payments (page {} of {})", 
-                paymentPage.getContent().size(), page + 1, paymentPage.getTotalPages());
+            logger.info("Displayed admin payments (page {}, paging: {})", page + 1, paging);
         } catch (Exception e) {
             logger.error("Error listing admin payments: {}", e.getMessage(), e);
             model.addAttribute("error", "Error loading payments: " + e.getMessage());
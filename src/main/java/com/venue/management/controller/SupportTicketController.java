@@ -1,9 +1,13 @@
 package com.venue.management.controller;
 
 import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.TicketStatus;
 import com.venue.management.entity.User;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.TicketRow;
 import com.venue.management.service.SupportTicketService;
-import com.venue.management.service.UserService;
+import com.venue.management.security.CurrentUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,13 +15,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
+
 /**
  * Controller for handling support ticket-related HTTP requests.
  * Provides endpoints for creating, listing, and resolving support tickets with pagination, sorting, filtering, and search.
@@ -34,37 +39,69 @@ public class SupportTicketController {
     @Autowired
     private SupportTicketService supportTicketService;
 
-    @Autowired
-    private UserService userService;
 
     /**
      * Lists support tickets with pagination, sorting, filtering, and search.
      * 
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @param page Page number (default: 0)
      * @param size Page size (default: 10)
      * @param sortBy Sort field (default: "ticketId")
      * @param sortDir Sort direction: "asc" or "desc" (default: "desc")
      * @param status Optional status filter
      * @param search Optional search term
+     * @param from Optional start of the date range
+     * @param to Optional end of the date range
+     * @param paging Pagination mode: "keyset" (default) or "offset"; searches always use offset
+     * @param cursor Opaque keyset cursor of the page to show
      * @param model The model to add attributes
      * @return The view name for support tickets list
      */
     @GetMapping
-    public String listTickets(@AuthenticationPrincipal UserDetails userDetails,
+    public String listTickets(@CurrentUser User user,
                              @RequestParam(defaultValue = "0") int page,
                              @RequestParam(defaultValue = "10") int size,
                              @RequestParam(defaultValue = "ticketId") String sortBy,
                              @RequestParam(defaultValue = "desc") String sortDir,
                              @RequestParam(required = false) String status,
                              @RequestParam(required = false) String search,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                             @RequestParam(defaultValue = "keyset") String paging,
+                             @RequestParam(required = false) String cursor,
                              Model model) {
-        logger.info("Listing support tickets for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}", 
-            userDetails.getUsername(), page, size, sortBy, sortDir, status, search);
+        logger.info("Listing support tickets for user: {} with page: {}, size: {}, sortBy: {}, sortDir: {}, status: {}, search: {}, paging: {}", 
+            user.getUsername(), page, size, sortBy, sortDir, status, search, paging);
         
         try {
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            ListFilter filter = new ListFilter(status, search, from, to);
+            boolean seesAll = user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER");
+            
+            model.addAttribute("currentStatus", status);
+            model.addAttribute("currentSearch", search);
+            model.addAttribute("currentFrom", from);
+            model.addAttribute("currentTo", to);
+            model.addAttribute("sortBy", sortBy);
+            model.addAttribute("sortDir", sortDir);
+            model.addAttribute("size", size);
+            // Searches are ordered by relevance, which keyset paging cannot seek through
+            boolean keyset = !paging.equalsIgnoreCase("offset") && filter.getSearch() == null;
+            model.addAttribute("paging", keyset ? paging : "offset");
+            
+            if (keyset) {
+                // Keyset mode: seek past the cursor row, no OFFSET and no COUNT(*)
+                Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+                CursorPage<TicketRow> ticketSlice = seesAll
+                    ? supportTicketService.scrollAllTickets(filter, order, cursor, size)
+                    : supportTicketService.scrollCustomerTickets(user, filter, order, cursor, size);
+                
+                model.addAttribute("tickets", ticketSlice.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("nextCursor", ticketSlice.getNextCursor());
+                model.addAttribute("previousCursor", ticketSlice.getPreviousCursor());
+                logger.info("Displayed {} support tickets (keyset)", ticketSlice.getContent().size());
+                return "support/list";
+            }
             
             // Create Sort object based on sortBy and sortDir
             Sort sort = sortDir.equalsIgnoreCase("asc") 
@@ -73,22 +110,17 @@ public class SupportTicketController {
             
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<SupportTicket> ticketPage;
-            if (user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER")) {
-                ticketPage = supportTicketService.getAllTickets(status, search, pageable);
+            Page<TicketRow> ticketPage;
+            if (seesAll) {
+                ticketPage = supportTicketService.getAllTickets(filter, pageable);
             } else {
-                ticketPage = supportTicketService.getCustomerTickets(user, status, search, pageable);
+                ticketPage = supportTicketService.getCustomerTickets(user, filter, pageable);
             }
             
             model.addAttribute("tickets", ticketPage.getContent());
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", ticketPage.getTotalPages());
             model.addAttribute("totalElements", ticketPage.getTotalElements());
-            model.addAttribute("currentStatus", status);
-            model.addAttribute("currentSearch", search);
-            model.addAttribute("sortBy", sortBy);
-            model.addAttribute("sortDir", sortDir);
-            model.addAttribute("size", size);
             
             logger.info("Displayed {} support tickets (page {} of {})", 
                 ticketPage.getContent().size(), page + 1, ticketPage.getTotalPages());
@@ -100,6 +132,32 @@ public class SupportTicketController {
         return "support/list";
     }
 
+    /**
+     * Rebuilds the support ticket search index from the database (admin only).
+     * 
+     * @param user The authenticated user
+     * @param redirectAttributes The redirect attributes
+     * @return Redirect to support tickets list
+     */
+    @PostMapping("/reindex")
+    public String reindexTickets(@CurrentUser User user,
+                                 RedirectAttributes redirectAttributes) {
+        logger.info("Search index rebuild requested by user: {}", user.getUsername());
+        try {
+            if (!user.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized search index rebuild attempt by user {}", user.getUsername());
+                redirectAttributes.addFlashAttribute("error", "Only administrators can rebuild the search index.");
+                return "redirect:/support";
+            }
+            supportTicketService.rebuildSearchIndex();
+            redirectAttributes.addFlashAttribute("success", "Ticket search index rebuilt.");
+        } catch (Exception e) {
+            logger.error("Error rebuilding ticket search index: {}", e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "Error rebuilding search index: " + e.getMessage());
+        }
+        return "redirect:/support";
+    }
+
     /**
      * Displays the support ticket creation page.
      * 
@@ -117,17 +175,15 @@ public class SupportTicketController {
      * Creates a new support ticket.
      * 
      * @param ticket The support ticket data
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @return Redirect to support tickets list
      */
     @PostMapping("/create")
     public String createTicket(@ModelAttribute SupportTicket ticket, 
-                              @AuthenticationPrincipal UserDetails userDetails) {
-        logger.info("Creating support ticket for user: {}", userDetails.getUsername());
+                              @CurrentUser User user) {
+        logger.info("Creating support ticket for user: {}", user.getUsername());
         
         try {
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
             ticket.setCustomer(user);
             SupportTicket createdTicket = supportTicketService.createTicket(ticket);
             logger.info("Support ticket created successfully with ID: {}", createdTicket.getTicketId());
@@ -142,20 +198,18 @@ public class SupportTicketController {
      * Displays the support ticket resolution page.
      * 
      * @param id The support ticket ID
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @param model The model to add attributes
      * @param redirectAttributes The redirect attributes
      * @return The view name for ticket resolution or redirect on error
      */
     @GetMapping("/resolve/{id}")
     public String resolveTicketPage(@PathVariable Long id, 
-                                   @AuthenticationPrincipal UserDetails userDetails, 
+                                   @CurrentUser User user, 
                                    Model model, 
                                    RedirectAttributes redirectAttributes) {
         logger.info("Displaying resolution page for support ticket ID: {}", id);
         try {
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
             SupportTicket ticket = supportTicketService.getTicketById(id);
             
             // Security check: If ticket was created by a manager, only admin can resolve it
@@ -167,7 +221,7 @@ public class SupportTicketController {
             }
             
             // Check if ticket is already resolved
-            if ("RESOLVED".equals(ticket.getTicketStatus())) {
+            if (ticket.getTicketStatus() == TicketStatus.RESOLVED) {
                 logger.warn("Attempt to resolve already resolved ticket ID: {}", id);
                 redirectAttributes.addFlashAttribute("error", "This ticket is already resolved.");
                 return "redirect:/support";
@@ -188,20 +242,18 @@ public class SupportTicketController {
      * 
      * @param id The support ticket ID
      * @param resolutionNotes The resolution notes
-     * @param userDetails The authenticated user details
+     * @param user The authenticated user
      * @param redirectAttributes The redirect attributes
      * @return Redirect to support tickets list
      */
     @PostMapping("/resolve/{id}")
     public String resolveTicket(@PathVariable Long id, 
                                @RequestParam("resolutionNotes") String resolutionNotes,
-                               @AuthenticationPrincipal UserDetails userDetails, 
+                               @CurrentUser User user, 
                                RedirectAttributes redirectAttributes) {
-        logger.info("Resolving support ticket ID: {} by user: {}", id, userDetails.getUsername());
+        logger.info("Resolving support ticket ID: {} by user: {}", id, user.getUsername());
         
         try {
-            User user = userService.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
             SupportTicket ticket = supportTicketService.getTicketById(id);
             
             // Security check: If ticket was created by a manager, only admin can resolve it
@@ -1,7 +1,13 @@
 package com.venue.management.controller;
 
 import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.pagination.CursorPage;
 import com.venue.management.service.VenueService;
+import com.venue.management.service.image.ImageDerivativeService;
+import com.venue.management.service.image.ImageResizer;
+import com.venue.management.service.image.ImageStore;
+import com.venue.management.service.image.ImageVariant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -16,11 +23,8 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.io.InputStream;
+import java.time.LocalDate;
 
 /**
  * Controller for handling venue-related HTTP requests.
@@ -38,6 +42,12 @@ public class VenueController {
     @Autowired
     private VenueService venueService;
 
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private ImageStore imageStore;
+
     /**
      * Lists all venues with pagination, sorting, and search.
      * 
@@ -46,6 +56,8 @@ public class VenueController {
      * @param sortBy Sort field (default: "venueId")
      * @param sortDir Sort direction: "asc" or "desc" (default: "desc")
      * @param search Optional search term to search in venue name, location, or status
+     * @param paging Pagination mode: "keyset" (default) or "offset"
+     * @param cursor Opaque keyset cursor of the page to show
      * @param model The model to add attributes
      * @return The view name for venues list
      */
@@ -55,11 +67,32 @@ public class VenueController {
                             @RequestParam(defaultValue = "venueId") String sortBy,
                             @RequestParam(defaultValue = "desc") String sortDir,
                             @RequestParam(required = false) String search,
+                            @RequestParam(defaultValue = "keyset") String paging,
+                            @RequestParam(required = false) String cursor,
                             Model model) {
-        log.info("Listing venues with page: {}, size: {}, sortBy: {}, sortDir: {}, search: {}", 
-            page, size, sortBy, sortDir, search);
+        log.info("Listing venues with page: {}, size: {}, sortBy: {}, sortDir: {}, search: {}, paging: {}", 
+            page, size, sortBy, sortDir, search, paging);
         
         try {
+            model.addAttribute("currentSearch", search);
+            model.addAttribute("sortBy", sortBy);
+            model.addAttribute("sortDir", sortDir);
+            model.addAttribute("size", size);
+            model.addAttribute("paging", paging);
+            
+            if (!paging.equalsIgnoreCase("offset")) {
+                // Keyset mode: seek past the cursor row, no OFFSET and no COUNT(*)
+                Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+                CursorPage<Venue> venueSlice = venueService.scrollVenues(search, order, cursor, size);
+                
+                model.addAttribute("venues", venueSlice.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("nextCursor", venueSlice.getNextCursor());
+                model.addAttribute("previousCursor", venueSlice.getPreviousCursor());
+                log.info("Displayed {} venues (keyset)", venueSlice.getContent().size());
+                return "venue/list";
+            }
+            
             // Create Sort object based on sortBy and sortDir
             Sort sort = sortDir.equalsIgnoreCase("asc") 
                 ? Sort.by(sortBy).ascending() 
@@ -73,10 +106,6 @@ public class VenueController {
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", venuePage.getTotalPages());
             model.addAttribute("totalElements", venuePage.getTotalElements());
-            model.addAttribute("currentSearch", search);
-            model.addAttribute("sortBy", sortBy);
-            model.addAttribute("sortDir", sortDir);
-            model.addAttribute("size", size);
             
             log.info("Displayed {} venues (page {} of {})", 
                 venuePage.getContent().size(), page + 1, venuePage.getTotalPages());
@@ -90,6 +119,73 @@ public class VenueController {
         return "venue/list";
     }
 
+    /**
+     * Searches venues that are free for a whole date range, with capacity and price constraints.
+     * 
+     * @param from Start date of the event (inclusive)
+     * @param to End date of the event (inclusive)
+     * @param minCapacity Optional minimum capacity
+     * @param maxPrice Optional maximum price per day
+     * @param page Page number (default: 0)
+     * @param size Page size (default: 6)
+     * @param sortBy Sort field (default: "pricePerDay")
+     * @param sortDir Sort direction: "asc" or "desc" (default: "asc")
+     * @param model The model to add attributes
+     * @return The view name for the availability search
+     */
+    @GetMapping("/available")
+    public String searchAvailableVenues(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                        @RequestParam(required = false) Integer minCapacity,
+                                        @RequestParam(required = false) Double maxPrice,
+                                        @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "6") int size,
+                                        @RequestParam(defaultValue = "pricePerDay") String sortBy,
+                                        @RequestParam(defaultValue = "asc") String sortDir,
+                                        Model model) {
+        log.info("Searching available venues from: {}, to: {}, minCapacity: {}, maxPrice: {}, page: {}, size: {}",
+            from, to, minCapacity, maxPrice, page, size);
+        
+        model.addAttribute("from", from);
+        model.addAttribute("to", to);
+        model.addAttribute("minCapacity", minCapacity);
+        model.addAttribute("maxPrice", maxPrice);
+        model.addAttribute("sortBy", sortBy);
+        model.addAttribute("sortDir", sortDir);
+        model.addAttribute("size", size);
+        model.addAttribute("currentPage", page);
+        
+        if (from == null || to == null) {
+            // Nothing searched yet; just show the form
+            model.addAttribute("totalPages", 0);
+            model.addAttribute("totalElements", 0);
+            return "venue/available";
+        }
+        
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("asc") 
+                ? Sort.by(sortBy).ascending() 
+                : Sort.by(sortBy).descending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            
+            Page<Venue> venuePage = venueService.searchAvailableVenues(from, to, minCapacity, maxPrice, pageable);
+            
+            model.addAttribute("venues", venuePage.getContent());
+            model.addAttribute("totalPages", venuePage.getTotalPages());
+            model.addAttribute("totalElements", venuePage.getTotalElements());
+            
+            log.info("Displayed {} available venues (page {} of {})", 
+                venuePage.getContent().size(), page + 1, venuePage.getTotalPages());
+        } catch (Exception e) {
+            log.error("Error searching available venues: {}", e.getMessage(), e);
+            model.addAttribute("error", "Error searching venues: " + e.getMessage());
+            model.addAttribute("totalPages", 0);
+            model.addAttribute("totalElements", 0);
+        }
+        
+        return "venue/available";
+    }
+
     /**
      * Displays the venue creation page.
      * 
@@ -119,11 +215,11 @@ public class VenueController {
         try {
             if (venue.getVenueId() == null) {
                 log.info("Creating new venue: {}", venue.getVenueName());
-                venue.setStatus("AVAILABLE");
+                venue.setStatus(VenueStatus.AVAILABLE);
             } else {
                 log.info("Updating venue ID: {}, name: {}", venue.getVenueId(), venue.getVenueName());
                 // When editing, preserve the existing status if not set
-                if (venue.getStatus() == null || venue.getStatus().isEmpty()) {
+                if (venue.getStatus() == null) {
                     Venue existingVenue = venueService.getVenueById(venue.getVenueId())
                         .orElseThrow(() -> new RuntimeException("Venue not found"));
                     venue.setStatus(existingVenue.getStatus());
@@ -131,18 +227,34 @@ public class VenueController {
             }
 
             // Handle image upload
+            String uploadedImage = null;
             if (imageFile != null && !imageFile.isEmpty()) {
                 log.debug("Saving image file: {}", imageFile.getOriginalFilename());
-                String imagePath = saveImage(imageFile);
-                venue.setImagePath(imagePath);
-            } else if (venue.getVenueId() != null) {
-                // If editing and no new image, keep existing image path
+                uploadedImage = saveImage(imageFile);
+            }
+            boolean imageChanged = uploadedImage != null;
+            if (venue.getVenueId() != null) {
+                // If editing without a new image (or with the same photo again), keep the
+                // existing image and its resized copies
                 Venue existingVenue = venueService.getVenueById(venue.getVenueId())
                     .orElseThrow(() -> new RuntimeException("Venue not found"));
-                venue.setImagePath(existingVenue.getImagePath());
+                if (uploadedImage == null || uploadedImage.equals(existingVenue.getImagePath())) {
+                    imageChanged = false;
+                    venue.setImagePath(existingVenue.getImagePath());
+                    venue.setThumbnailPath(existingVenue.getThumbnailPath());
+                    venue.setCardImagePath(existingVenue.getCardImagePath());
+                    venue.setHeroImagePath(existingVenue.getHeroImagePath());
+                }
+            }
+            if (imageChanged) {
+                venue.setImagePath(uploadedImage);
             }
 
-            venueService.saveVenue(venue);
+            Venue saved = venueService.saveVenue(venue);
+            if (imageChanged) {
+                // Resized copies are generated in the background; pages use the original until then
+                imageDerivativeService.generateAsync(saved.getVenueId(), saved.getImagePath());
+            }
             redirectAttributes.addFlashAttribute("success", "Venue saved successfully!");
             log.info("Venue saved successfully with ID: {}", venue.getVenueId());
             return "redirect:/venues";
@@ -189,10 +301,7 @@ public class VenueController {
         log.info("Marking venue {} as maintenance", id);
         
         try {
-            Venue venue = venueService.getVenueById(id)
-                .orElseThrow(() -> new RuntimeException("Venue not found"));
-            venue.setStatus("MAINTENANCE");
-            venueService.saveVenue(venue);
+            venueService.updateVenueStatus(id, VenueStatus.MAINTENANCE);
             redirectAttributes.addFlashAttribute("success", "Venue marked as maintenance successfully!");
             log.info("Venue {} marked as maintenance successfully", id);
         } catch (Exception e) {
@@ -214,10 +323,7 @@ public class VenueController {
         log.info("Marking venue {} as available", id);
         
         try {
-            Venue venue = venueService.getVenueById(id)
-                .orElseThrow(() -> new RuntimeException("Venue not found"));
-            venue.setStatus("AVAILABLE");
-            venueService.saveVenue(venue);
+            venueService.updateVenueStatus(id, VenueStatus.AVAILABLE);
             redirectAttributes.addFlashAttribute("success", "Venue marked as available successfully!");
             log.info("Venue {} marked as available successfully", id);
         } catch (Exception e) {
@@ -230,34 +336,24 @@ public class VenueController {
 
 
     /**
-     * Saves an uploaded image file.
+     * Saves an uploaded image file in the image store.
      * 
      * @param file The image file to save
-     * @return The relative path of the saved image
-     * @throws IOException if an I/O error occurs
+     * @return The content hash of the saved image
+     * @throws IOException if the file cannot be saved
+     * @throws RuntimeException if the file is not an image
      */
     private String saveImage(MultipartFile file) throws IOException {
-        // Create upload directory if it doesn't exist
-        Path uploadPath = Paths.get("src/main/resources/static/images");
-        if (!Files.exists(uploadPath)) {
-            log.debug("Creating upload directory: {}", uploadPath);
-            Files.createDirectories(uploadPath);
+        // Images are served from this origin, so only files that decode as images are kept
+        try (InputStream in = file.getInputStream()) {
+            ImageResizer.read(in, ImageVariant.THUMBNAIL.getWidth());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Rejected upload {}: {}", file.getOriginalFilename(), e.getMessage());
+            throw new RuntimeException("The uploaded file is not a supported image.");
         }
-
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".") 
-            ? originalFilename.substring(originalFilename.lastIndexOf(".")) 
-            : "";
-        String filename = UUID.randomUUID().toString() + extension;
-
-        // Save file
-        Path filePath = uploadPath.resolve(filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        log.debug("Image saved successfully: {}", filename);
-
-        // Return relative path for database storage
-        return "/images/" + filename;
+        String hash = imageStore.store(file.getInputStream());
+        log.debug("Image {} saved as {}", file.getOriginalFilename(), hash);
+        return hash;
     }
 
 }
@@ -1,38 +1,65 @@
 package com.venue.management.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_venue_dates", columnList = "venue_id, event_date, end_date"),
+        // List filters and whitelisted sort columns
+        @Index(name = "idx_bookings_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_bookings_status", columnList = "status"),
+        @Index(name = "idx_bookings_event_date", columnList = "event_date"),
+        @Index(name = "idx_bookings_end_date", columnList = "end_date"),
+        // Sweep of expired holds
+        @Index(name = "idx_bookings_status_hold", columnList = "status, hold_expires_at")
+})
+@NamedEntityGraph(name = "Booking.list", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("venue")
+})
 public class Booking {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long bookingId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "venue_id", nullable = false)
     private Venue venue;
 
-    @Column(nullable = false)
+    @Column(name = "event_date", nullable = false)
     private LocalDate eventDate;
 
-    @Column(nullable = false)
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
     private String eventType;
 
-    private String status; // PENDING, CONFIRMED, CANCELLED, COMPLETED
+    @Column(name = "status", length = 1, nullable = false)
+    @Convert(converter = BookingStatus.Converter.class)
+    private BookingStatus status;
+
+    // Set while HELD: the venue is released if the booking is not paid by then
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
+    // Optimistic lock: every status transition bumps it, including the bulk updates in BookingRepository
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 
     public Booking() {
     }
 
-    public Booking(Long bookingId, User user, Venue venue, LocalDate eventDate, String eventType, String status) {
+    public Booking(Long bookingId, User user, Venue venue, LocalDate eventDate, String eventType, BookingStatus status) {
         this.bookingId = bookingId;
         this.user = user;
         this.venue = venue;
@@ -81,11 +108,11 @@ public class Booking {
         this.eventType = eventType;
     }
 
-    public String getStatus() {
+    public BookingStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(BookingStatus status) {
         this.status = status;
     }
 
@@ -96,4 +123,27 @@ public class Booking {
     public void setEndDate(LocalDate endDate) {
         this.endDate = endDate;
     }
+
+    public LocalDateTime getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+
+    public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    /**
+     * Checks whether this is a hold that has not expired yet.
+     */
+    public boolean isLiveHold(LocalDateTime now) {
+        return status == BookingStatus.HELD && holdExpiresAt != null && holdExpiresAt.isAfter(now);
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
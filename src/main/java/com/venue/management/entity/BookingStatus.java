@@ -0,0 +1,85 @@
+package com.venue.management.entity;
+
+import com.venue.management.exception.IllegalStatusTransitionException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle of a booking.
+ *
+ * A new booking is HELD until it is paid for or its hold expires. Paying moves it to
+ * PENDING while the charge runs; an approved charge confirms it, a declined one puts it
+ * back on hold. A confirmed booking is completed once its end date has passed. Until
+ * then it can be cancelled. COMPLETED, CANCELLED and EXPIRED are final.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum BookingStatus implements CodedStatus {
+
+    HELD("H"),
+    PENDING("P"),
+    CONFIRMED("C"),
+    COMPLETED("D"),
+    CANCELLED("X"),
+    EXPIRED("E");
+
+    private final String code;
+
+    BookingStatus(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * The statuses this one may move to.
+     */
+    public Set<BookingStatus> next() {
+        return switch (this) {
+            case HELD -> EnumSet.of(PENDING, CANCELLED, EXPIRED);
+            case PENDING -> EnumSet.of(CONFIRMED, HELD, CANCELLED);
+            case CONFIRMED -> EnumSet.of(COMPLETED, CANCELLED);
+            case COMPLETED, CANCELLED, EXPIRED -> EnumSet.noneOf(BookingStatus.class);
+        };
+    }
+
+    public boolean canMoveTo(BookingStatus status) {
+        return next().contains(status);
+    }
+
+    /**
+     * Whether a booking in this status still occupies its venue.
+     */
+    public boolean isActive() {
+        return this != CANCELLED && this != EXPIRED;
+    }
+
+    /**
+     * Checks a transition of the given booking.
+     *
+     * @param booking The booking, in its current status
+     * @param status The status it should move to
+     * @throws IllegalStatusTransitionException if the current status does not lead there
+     */
+    public static void checkTransition(Booking booking, BookingStatus status) {
+        BookingStatus current = booking.getStatus();
+        if (current != null && !current.canMoveTo(status)) {
+            throw new IllegalStatusTransitionException("Booking #" + booking.getBookingId() + " is "
+                + current + " and cannot be changed to " + status + ".");
+        }
+    }
+
+    /**
+     * Stores the status as its one-character code.
+     */
+    public static class Converter extends CodedStatusConverter<BookingStatus> {
+        public Converter() {
+            super(BookingStatus.class);
+        }
+    }
+}
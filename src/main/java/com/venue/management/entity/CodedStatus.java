@@ -0,0 +1,14 @@
+package com.venue.management.entity;
+
+/**
+ * A status enum stored as a one-character code rather than its name, which keeps the
+ * status columns and their indexes narrow. Codes must never be reused or changed once
+ * rows carry them.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface CodedStatus {
+
+    String getCode();
+}
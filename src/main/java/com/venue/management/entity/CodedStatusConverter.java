@@ -0,0 +1,46 @@
+package com.venue.management.entity;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps a {@link CodedStatus} enum to its code column and back. Hibernate also applies it
+ * to enum literals compared with the column in JPQL, so queries can name the constants.
+ *
+ * @param <S> The status enum
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public abstract class CodedStatusConverter<S extends Enum<S> & CodedStatus> implements AttributeConverter<S, String> {
+
+    private final Class<S> type;
+    private final Map<String, S> byCode = new HashMap<>();
+
+    protected CodedStatusConverter(Class<S> type) {
+        this.type = type;
+        for (S status : type.getEnumConstants()) {
+            if (byCode.put(status.getCode(), status) != null) {
+                throw new IllegalStateException("Duplicate code " + status.getCode() + " in " + type.getSimpleName());
+            }
+        }
+    }
+
+    @Override
+    public String convertToDatabaseColumn(S status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public S convertToEntityAttribute(String code) {
+        if (code == null) {
+            return null;
+        }
+        S status = byCode.get(code);
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+        }
+        return status;
+    }
+}
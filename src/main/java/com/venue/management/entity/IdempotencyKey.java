@@ -0,0 +1,60 @@
+package com.venue.management.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A request token that has been executed, with the ID of the record it produced.
+ * The primary key makes a token claimable only once across all application instances.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        // Purge of expired keys
+        @Index(name = "idx_idempotency_keys_created", columnList = "created_at")
+})
+public class IdempotencyKey {
+
+    // Scope and token, e.g. "payment:3f2b..."
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    // ID of the booking/payment created by the request; null while it is executing
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyKey() {
+    }
+
+    public IdempotencyKey(String key, LocalDateTime createdAt) {
+        this.key = key;
+        this.createdAt = createdAt;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Long getResultId() {
+        return resultId;
+    }
+
+    public void setResultId(Long resultId) {
+        this.resultId = resultId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
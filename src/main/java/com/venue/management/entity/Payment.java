@@ -1,31 +1,52 @@
 package com.venue.management.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // List filters and whitelisted sort columns
+        @Index(name = "idx_payments_status", columnList = "payment_status"),
+        @Index(name = "idx_payments_date", columnList = "payment_date"),
+        @Index(name = "idx_payments_amount", columnList = "payment_amount")
+})
+@NamedEntityGraph(name = "Payment.list", attributeNodes = @NamedAttributeNode(value = "booking", subgraph = "booking"),
+        subgraphs = @NamedSubgraph(name = "booking", attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("venue")
+        }))
 public class Payment {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long paymentId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booking_id", nullable = false)
     private Booking booking;
 
+    @Column(name = "payment_amount")
     private double paymentAmount;
 
+    @Column(name = "payment_date")
     private LocalDateTime paymentDate;
 
-    private String paymentStatus; // SUCCESS, FAILED, PENDING
+    @Column(name = "payment_status", length = 1)
+    @Convert(converter = PaymentStatus.Converter.class)
+    private PaymentStatus paymentStatus;
+
+    // Optimistic lock
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 
     public Payment() {
     }
 
     public Payment(Long paymentId, Booking booking, double paymentAmount, LocalDateTime paymentDate,
-            String paymentStatus) {
+            PaymentStatus paymentStatus) {
         this.paymentId = paymentId;
         this.booking = booking;
         this.paymentAmount = paymentAmount;
@@ -65,11 +86,19 @@ public class Payment {
         this.paymentDate = paymentDate;
     }
 
-    public String getPaymentStatus() {
+    public PaymentStatus getPaymentStatus() {
         return paymentStatus;
     }
 
-    public void setPaymentStatus(String paymentStatus) {
+    public void setPaymentStatus(PaymentStatus paymentStatus) {
         this.paymentStatus = paymentStatus;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
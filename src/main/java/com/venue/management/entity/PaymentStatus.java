@@ -0,0 +1,36 @@
+package com.venue.management.entity;
+
+/**
+ * Status of a payment. A payment is PENDING while the gateway charges it, then SUCCESS
+ * or FAILED; a successful payment of a cancelled booking is REFUNDED.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum PaymentStatus implements CodedStatus {
+
+    PENDING("P"),
+    SUCCESS("S"),
+    FAILED("F"),
+    REFUNDED("R");
+
+    private final String code;
+
+    PaymentStatus(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Stores the status as its one-character code.
+     */
+    public static class Converter extends CodedStatusConverter<PaymentStatus> {
+        public Converter() {
+            super(PaymentStatus.class);
+        }
+    }
+}
@@ -4,22 +4,31 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "support_tickets")
+@Table(name = "support_tickets", indexes = {
+        // List filters and whitelisted sort columns
+        @Index(name = "idx_tickets_customer_status", columnList = "customer_id, ticket_status"),
+        @Index(name = "idx_tickets_status", columnList = "ticket_status"),
+        @Index(name = "idx_tickets_created", columnList = "created_date")
+})
+@NamedEntityGraph(name = "SupportTicket.list", attributeNodes = @NamedAttributeNode("customer"))
 public class SupportTicket {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long ticketId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private User customer;
 
     @Column(columnDefinition = "TEXT")
     private String issueDescription;
 
-    private String ticketStatus; // OPEN, RESOLVED
+    @Column(name = "ticket_status", length = 1)
+    @Convert(converter = TicketStatus.Converter.class)
+    private TicketStatus ticketStatus;
 
+    @Column(name = "created_date")
     private LocalDateTime createdDate;
 
     private LocalDateTime resolvedDate;
@@ -32,7 +41,7 @@ public class SupportTicket {
     public SupportTicket() {
     }
 
-    public SupportTicket(Long ticketId, User customer, String issueDescription, String ticketStatus,
+    public SupportTicket(Long ticketId, User customer, String issueDescription, TicketStatus ticketStatus,
             LocalDateTime createdDate, LocalDateTime resolvedDate, String resolutionNotes) {
         this.ticketId = ticketId;
         this.customer = customer;
@@ -67,11 +76,11 @@ public class SupportTicket {
         this.issueDescription = issueDescription;
     }
 
-    public String getTicketStatus() {
+    public TicketStatus getTicketStatus() {
         return ticketStatus;
     }
 
-    public void setTicketStatus(String ticketStatus) {
+    public void setTicketStatus(TicketStatus ticketStatus) {
         this.ticketStatus = ticketStatus;
     }
 
@@ -0,0 +1,33 @@
+package com.venue.management.entity;
+
+/**
+ * Status of a support ticket.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum TicketStatus implements CodedStatus {
+
+    OPEN("O"),
+    RESOLVED("R");
+
+    private final String code;
+
+    TicketStatus(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Stores the status as its one-character code.
+     */
+    public static class Converter extends CodedStatusConverter<TicketStatus> {
+        public Converter() {
+            super(TicketStatus.class);
+        }
+    }
+}
@@ -1,35 +1,62 @@
 package com.venue.management.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "venues")
+@Table(name = "venues", indexes = {
+        @Index(name = "idx_venues_status_capacity_price", columnList = "status, capacity, price_per_day"),
+        // Whitelisted sort columns of the venue list
+        @Index(name = "idx_venues_name", columnList = "venue_name"),
+        @Index(name = "idx_venues_location", columnList = "location"),
+        @Index(name = "idx_venues_price", columnList = "price_per_day")
+})
 public class Venue {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long venueId;
 
-    @Column(nullable = false)
+    @Column(name = "venue_name", nullable = false)
     private String venueName;
 
-    @Column(nullable = false)
+    @Column(name = "location", nullable = false)
     private String location;
 
+    @Column(name = "capacity")
     private int capacity;
 
+    @Column(name = "price_per_day")
     private double pricePerDay;
 
-    @Column(nullable = false)
-    private String status="AVAILABLE"; // AVAILABLE, BOOKED, MAINTENANCE
+    @Column(name = "status", length = 1, nullable = false)
+    @Convert(converter = VenueStatus.Converter.class)
+    private VenueStatus status = VenueStatus.AVAILABLE;
 
+    // SHA-256 of the image in the image store
     @Column(name = "image_path")
     private String imagePath;
 
+    // Hashes of the resized copies, generated in the background after upload; null until ready
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "card_image_path")
+    private String cardImagePath;
+
+    @Column(name = "hero_image_path")
+    private String heroImagePath;
+
+    // Optimistic lock: a stale edit form or status change fails instead of overwriting a newer one
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     public Venue() {
     }
 
-    public Venue(Long venueId, String venueName, String location, int capacity, double pricePerDay, String status) {
+    public Venue(Long venueId, String venueName, String location, int capacity, double pricePerDay, VenueStatus status) {
         this.venueId = venueId;
         this.venueName = venueName;
         this.location = location;
@@ -78,11 +105,11 @@ public class Venue {
         this.pricePerDay = pricePerDay;
     }
 
-    public String getStatus() {
+    public VenueStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(VenueStatus status) {
         this.status = status;
     }
 
@@ -93,4 +120,36 @@ public class Venue {
     public void setImagePath(String imagePath) {
         this.imagePath = imagePath;
     }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public void setThumbnailPath(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
+
+    public String getCardImagePath() {
+        return cardImagePath;
+    }
+
+    public void setCardImagePath(String cardImagePath) {
+        this.cardImagePath = cardImagePath;
+    }
+
+    public String getHeroImagePath() {
+        return heroImagePath;
+    }
+
+    public void setHeroImagePath(String heroImagePath) {
+        this.heroImagePath = heroImagePath;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,75 @@
+package com.venue.management.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One day of a venue held by a booking. The primary key on (venue, day) lets the
+ * database reject a second booking of the same day atomically, on every node.
+ * Written with plain JDBC batches, see {@link com.venue.management.repository.VenueDaySlotRepositoryImpl}.
+ */
+@Entity
+@Table(name = "venue_day_slots", indexes = {
+        // Bulk release on cancellation
+        @Index(name = "idx_venue_day_slots_booking", columnList = "booking_id")
+})
+@IdClass(VenueDaySlot.Key.class)
+public class VenueDaySlot {
+
+    @Id
+    @Column(name = "venue_id")
+    private Long venueId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    public VenueDaySlot() {
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    /**
+     * Composite primary key.
+     */
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long venueId;
+        private LocalDate day;
+
+        public Key() {
+        }
+
+        public Key(Long venueId, LocalDate day) {
+            this.venueId = venueId;
+            this.day = day;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(venueId, other.venueId) && Objects.equals(day, other.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(venueId, day);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.venue.management.entity;
+
+/**
+ * Whether a venue can be booked.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum VenueStatus implements CodedStatus {
+
+    AVAILABLE("A"),
+    BOOKED("B"),
+    MAINTENANCE("M");
+
+    private final String code;
+
+    VenueStatus(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Stores the status as its one-character code.
+     */
+    public static class Converter extends CodedStatusConverter<VenueStatus> {
+        public Converter() {
+            super(VenueStatus.class);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.venue.management.event;
+
+import com.venue.management.entity.BookingStatus;
+
+/**
+ * A booking was cancelled.
+ */
+public record BookingCancelled(Long bookingId, BookingStatus previousStatus) implements DomainEvent {
+}
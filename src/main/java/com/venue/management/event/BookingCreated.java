@@ -0,0 +1,7 @@
+package com.venue.management.event;
+
+/**
+ * A booking was created (PENDING).
+ */
+public record BookingCreated(Long bookingId, Long venueId, Long userId) implements DomainEvent {
+}
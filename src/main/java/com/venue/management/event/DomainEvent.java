@@ -0,0 +1,12 @@
+package com.venue.management.event;
+
+/**
+ * Something that happened to a booking, payment or support ticket, delivered to
+ * {@link DomainEventConsumer}s after the transaction that caused it has committed.
+ * Events are stored in the outbox as JSON under their simple class name.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public sealed interface DomainEvent permits BookingCreated, BookingCancelled, PaymentProcessed, TicketResolved {
+}
@@ -0,0 +1,54 @@
+package com.venue.management.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Converts domain events to and from their outbox form: the simple class name as the
+ * type and the record as JSON.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class DomainEventCodec {
+
+    private static final Map<String, Class<? extends DomainEvent>> TYPES = Arrays
+        .stream(DomainEvent.class.getPermittedSubclasses())
+        .map(type -> type.asSubclass(DomainEvent.class))
+        .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public String typeOf(DomainEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    public String encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Cannot serialize event " + typeOf(event), e);
+        }
+    }
+
+    public DomainEvent decode(String type, String payload) {
+        Class<? extends DomainEvent> eventClass = TYPES.get(type);
+        if (eventClass == null) {
+            throw new RuntimeException("Unknown event type " + type);
+        }
+        try {
+            return objectMapper.readValue(payload, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Cannot read event " + type, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.venue.management.event;
+
+import java.util.List;
+
+/**
+ * Receives domain events in batches, in the order they were committed.
+ *
+ * Delivery is at least once: if any consumer throws, or the application stops before the
+ * batch is marked delivered, the whole batch is delivered again. Consumers must therefore
+ * be idempotent, and should ignore event types they do not handle.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface DomainEventConsumer {
+
+    void onEvents(List<DomainEvent> events);
+}
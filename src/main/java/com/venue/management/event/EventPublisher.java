@@ -0,0 +1,50 @@
+package com.venue.management.event;
+
+import com.venue.management.entity.OutboxEvent;
+import com.venue.management.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction, so an event
+ * exists exactly when the change it describes was committed. The dispatcher is woken
+ * after commit; consumers never run on the request thread.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class EventPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DomainEventCodec codec;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    /**
+     * Adds an event to the outbox.
+     *
+     * @param event The event
+     * @throws org.springframework.transaction.IllegalTransactionStateException outside a transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        outboxEventRepository.save(new OutboxEvent(codec.typeOf(event), codec.encode(event), LocalDateTime.now()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.venue.management.event;
+
+import com.venue.management.entity.OutboxEvent;
+import com.venue.management.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers outbox events to the {@link DomainEventConsumer}s.
+ *
+ * Two threads share a {@link RingBuffer}. The feeder reads undelivered events from the
+ * outbox in ID order, when woken after a commit or every poll interval, and puts them in
+ * the ring. The deliverer takes them out in batches, hands each batch to every consumer
+ * and marks it delivered. A failed batch is retried with backoff; after the last attempt
+ * it is left in the outbox. The feeder periodically rescans the outbox from the start,
+ * which picks up such batches as well as events whose transaction committed after a
+ * later ID had already been read.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_MS = 500;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DomainEventCodec codec;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Resolved at start: consumers reach back to the services that publish events
+    @Autowired
+    private ObjectProvider<DomainEventConsumer> consumerProvider;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.ring-capacity:1024}")
+    private int ringCapacity;
+
+    @Value("${outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.rescan-interval-ms:30000}")
+    private long rescanIntervalMs;
+
+    @Value("${outbox.retention-hours:168}")
+    private long retentionHours;
+
+    // Events read into the ring and not yet delivered or given up on
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile boolean running;
+    private List<DomainEventConsumer> consumers = List.of();
+    private RingBuffer<OutboxEvent> ring;
+    private Thread feeder;
+    private Thread deliverer;
+
+    // Feeder thread only
+    private long lastReadId;
+    private long lastRescan;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        consumers = consumerProvider.orderedStream().toList();
+        ring = new RingBuffer<>(ringCapacity);
+        running = true;
+        feeder = new Thread(this::feedLoop, "outbox-feeder");
+        deliverer = new Thread(this::deliverLoop, "outbox-deliverer");
+        feeder.setDaemon(true);
+        deliverer.setDaemon(true);
+        feeder.start();
+        deliverer.start();
+        logger.info("Outbox dispatcher started with {} consumer(s)", consumers.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (feeder != null) {
+            feeder.interrupt();
+            deliverer.interrupt();
+            feeder.join(TimeUnit.SECONDS.toMillis(5));
+            deliverer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Signals that new events were committed.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Deletes delivered events after the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purgeDelivered() {
+        Integer purged = new TransactionTemplate(transactionManager).execute(status ->
+            outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (purged != null && purged > 0) {
+            logger.debug("Purged {} delivered outbox events", purged);
+        }
+    }
+
+    private void feedLoop() {
+        while (running) {
+            try {
+                wakeUps.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+                long now = System.currentTimeMillis();
+                if (now - lastRescan >= rescanIntervalMs) {
+                    lastReadId = 0;
+                    lastRescan = now;
+                }
+                feed();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Error reading the outbox: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Reads undelivered events after the last one read, as far as the ring has room.
+     */
+    private void feed() {
+        int room;
+        while ((room = ring.capacity() - ring.size()) > 0) {
+            int limit = Math.min(batchSize, room);
+            List<OutboxEvent> events = outboxEventRepository.findUnpublishedAfter(lastReadId, PageRequest.of(0, limit));
+            for (OutboxEvent event : events) {
+                lastReadId = event.getId();
+                // Skip events still in the ring or being delivered (seen again by a rescan)
+                if (inFlight.add(event.getId())) {
+                    ring.offer(event);
+                }
+            }
+            if (!events.isEmpty()) {
+                LockSupport.unpark(deliverer);
+            }
+            if (events.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    private void deliverLoop() {
+        List<OutboxEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            batch.clear();
+            if (ring.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollIntervalMs));
+                continue;
+            }
+            try {
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.forEach(event -> inFlight.remove(event.getId()));
+            }
+        }
+    }
+
+    private void deliver(List<OutboxEvent> batch) throws InterruptedException {
+        List<DomainEvent> events = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            ids.add(event.getId());
+            try {
+                events.add(codec.decode(event.getEventType(), event.getPayload()));
+            } catch (RuntimeException e) {
+                // Cannot be delivered by any retry; marked delivered with the rest so it does not block
+                logger.error("Skipping unreadable outbox event {}: {}", event.getId(), e.getMessage());
+            }
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                for (DomainEventConsumer consumer : consumers) {
+                    consumer.onEvents(events);
+                }
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Delivery of outbox events {}..{} failed (attempt {}): {}",
+                    ids.get(0), ids.get(ids.size() - 1), attempt, e.getMessage());
+                if (attempt < MAX_ATTEMPTS) {
+                    Thread.sleep(RETRY_BACKOFF_MS << (attempt - 1));
+                }
+            }
+        }
+        logger.error("Giving up on outbox events {}..{} until the next rescan", ids.get(0), ids.get(ids.size() - 1));
+    }
+}
@@ -0,0 +1,9 @@
+package com.venue.management.event;
+
+import com.venue.management.entity.PaymentStatus;
+
+/**
+ * The gateway answered a payment, which is now SUCCESS, FAILED or REFUNDED.
+ */
+public record PaymentProcessed(Long paymentId, Long bookingId, PaymentStatus status, double amount) implements DomainEvent {
+}
@@ -0,0 +1,83 @@
+package com.venue.management.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer, single-consumer ring buffer.
+ *
+ * The producer and the consumer each advance their own sequence, so neither takes a lock;
+ * publishing a sequence with a release store makes the slot written before it visible to
+ * the other thread. Exactly one thread may call {@link #offer} and one {@link #drainTo}.
+ *
+ * @param <T> Element type
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public final class RingBuffer<T> {
+
+    private final Object[] slots;
+    private final int mask;
+
+    // Next sequence to read; written only by the consumer
+    private final AtomicLong head = new AtomicLong();
+
+    // Next sequence to write; written only by the producer
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element, unless the buffer is full. Producer thread only.
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(T element) {
+        long t = tail.get();
+        if (t - head.get() == slots.length) {
+            return false;
+        }
+        slots[(int) (t & mask)] = element;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code max} elements, oldest first, into the list. Consumer thread only.
+     *
+     * @return Number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<T> target, int max) {
+        long h = head.get();
+        int count = (int) Math.min(tail.get() - h, max);
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((h + i) & mask);
+            target.add((T) slots[index]);
+            slots[index] = null;
+        }
+        head.lazySet(h + count);
+        return count;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,7 @@
+package com.venue.management.event;
+
+/**
+ * A support ticket was resolved.
+ */
+public record TicketResolved(Long ticketId, Long customerId) implements DomainEvent {
+}
@@ -0,0 +1,17 @@
+package com.venue.management.exception;
+
+/**
+ * Thrown when a record was changed by someone else and the change could not be redone on
+ * the new version. The message can be shown to the user as is.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.venue.management.exception;
+
+/**
+ * Thrown when a record is asked to move to a status its current status does not lead to,
+ * e.g. cancelling a completed booking. The message can be shown to the user as is.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class IllegalStatusTransitionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IllegalStatusTransitionException(String message) {
+        super(message);
+    }
+}
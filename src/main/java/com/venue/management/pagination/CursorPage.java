@@ -0,0 +1,51 @@
+package com.venue.management.pagination;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated list.
+ * Carries opaque cursors for the neighbouring pages instead of page numbers and totals.
+ *
+ * @param <T> Element type
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final String previousCursor;
+
+    public CursorPage(List<T> content, String nextCursor, String previousCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    /**
+     * Returns a page with the same cursors and different content, e.g. rows loaded for a page of IDs.
+     */
+    public <R> CursorPage<R> withContent(List<R> content) {
+        return new CursorPage<>(content, nextCursor, previousCursor);
+    }
+}
@@ -0,0 +1,93 @@
+package com.venue.management.pagination;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset paginated list: the (sort key, id) of a boundary row, the sort
+ * it belongs to, and whether the page is read forward (after the row) or backward
+ * (before the row). Serialized as an opaque URL-safe token.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public final class KeysetCursor {
+
+    private static final String NULL_KEY = "~";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final boolean forward;
+    private final String id;
+    private final String key;
+
+    public KeysetCursor(String property, Sort.Direction direction, boolean forward, String id, String key) {
+        this.property = property;
+        this.direction = direction;
+        this.forward = forward;
+        this.id = id;
+        this.key = key;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return The sort key of the boundary row, or null if the row's key is null
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Checks whether this cursor was issued for the given sort.
+     */
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    public String encode() {
+        String raw = direction.name() + "|" + (forward ? "F" : "B") + "|" + property + "|" + id + "|"
+            + (key == null ? NULL_KEY : "=" + key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The opaque cursor token
+     * @return The cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        String key;
+        if (NULL_KEY.equals(parts[4])) {
+            key = null;
+        } else if (parts[4].startsWith("=")) {
+            key = parts[4].substring(1);
+        } else {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new KeysetCursor(parts[2], Sort.Direction.valueOf(parts[0]), "F".equals(parts[1]), parts[3], key);
+    }
+}
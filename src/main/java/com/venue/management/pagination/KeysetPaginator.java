@@ -0,0 +1,285 @@
+package com.venue.management.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over JPA entities.
+ * Pages are ordered by (sort key, id) and located with a seek predicate on the boundary
+ * row of the previous page instead of an OFFSET, and no COUNT(*) is issued, so every
+ * page costs the same regardless of how deep it is.
+ *
+ * NULL sort keys are ordered the way MySQL does: first when ascending, last when descending.
+ *
+ * A page costs two statements: the seek query reads only (sort key, id), then the
+ * rows are loaded by ID, either as entities with the view's entity graph or by the
+ * caller as list projections.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class KeysetPaginator {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeysetPaginator.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads one page of entities.
+     *
+     * @param entityType The entity class
+     * @param filter Filter predicate, or null for all rows
+     * @param order Sort order; the ID is always appended as a tie-breaker
+     * @param idProperty Name of the entity's ID attribute
+     * @param entityGraph Named entity graph used to load the page, or null for none
+     * @param cursor Opaque cursor from a previous page, or null for the first page
+     * @param size Page size
+     * @return The page with cursors for the neighbouring pages
+     */
+    public <T> CursorPage<T> scroll(Class<T> entityType, Specification<T> filter, Sort.Order order,
+                                    String idProperty, String entityGraph, String cursor, int size) {
+        CursorPage<Long> ids = scrollIds(entityType, filter, order, idProperty, cursor, size);
+        return ids.withContent(load(entityType, idProperty, entityGraph, ids.getContent()));
+    }
+
+    /**
+     * Reads the IDs of one page, for callers that load the rows themselves
+     * (e.g. as list projections). Use {@link #inIdOrder} to restore the page order.
+     *
+     * @param entityType The entity class
+     * @param filter Filter predicate, or null for all rows
+     * @param order Sort order; the ID is always appended as a tie-breaker
+     * @param idProperty Name of the entity's ID attribute
+     * @param cursor Opaque cursor from a previous page, or null for the first page
+     * @param size Page size
+     * @return The page of IDs with cursors for the neighbouring pages
+     */
+    public <T> CursorPage<Long> scrollIds(Class<T> entityType, Specification<T> filter, Sort.Order order,
+                                          String idProperty, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        Path<Object> key = root.get(order.getProperty());
+        Path<Object> id = root.get(idProperty);
+        query.multiselect(key, id);
+
+        KeysetCursor position = parse(cursor, order, key, id);
+        boolean forward = position == null || position.isForward();
+        boolean ascending = order.isAscending() == forward;
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (position != null) {
+            predicates.add(seek(cb, key, id, position, ascending, order.getProperty().equals(idProperty)));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(ascending ? cb.asc(key) : cb.desc(key), ascending ? cb.asc(id) : cb.desc(id));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+            .setMaxResults(limit + 1)
+            .getResultList();
+        boolean hasMore = rows.size() > limit;
+        List<Tuple> page = new ArrayList<>(rows.subList(0, Math.min(rows.size(), limit)));
+        if (!forward) {
+            Collections.reverse(page);
+        }
+
+        List<Long> content = new ArrayList<>(page.size());
+        for (Tuple row : page) {
+            content.add(row.get(1, Long.class));
+        }
+
+        String next = null;
+        String previous = null;
+        if (!page.isEmpty()) {
+            Tuple first = page.get(0);
+            Tuple last = page.get(page.size() - 1);
+            // Reading backward we came from the page after, so there always is one
+            if (!forward || hasMore) {
+                next = toCursor(order, true, last).encode();
+            }
+            if (forward ? position != null : hasMore) {
+                previous = toCursor(order, false, first).encode();
+            }
+        }
+        logger.debug("Keyset page of {} {} rows (next: {}, previous: {})",
+            content.size(), entityType.getSimpleName(), next != null, previous != null);
+        return new CursorPage<>(content, next, previous);
+    }
+
+    /**
+     * Orders rows loaded by ID the same way as the page of IDs; IDs without a row are skipped.
+     *
+     * @param ids The page of IDs
+     * @param rows The loaded rows, in any order
+     * @param idOf Extracts a row's ID
+     * @return The rows in page order
+     */
+    public static <R> List<R> inIdOrder(List<Long> ids, Collection<R> rows, Function<R, Long> idOf) {
+        Map<Long, R> byId = new HashMap<>();
+        for (R row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<R> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            R row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Loads the entities of a page by ID, keeping the order of the seek query.
+     */
+    private <T> List<T> load(Class<T> entityType, String idProperty, String entityGraph, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root).where(root.get(idProperty).in(ids));
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (entityGraph != null) {
+            typedQuery.setHint(FETCH_GRAPH, entityManager.getEntityGraph(entityGraph));
+        }
+
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        return inIdOrder(ids, typedQuery.getResultList(), entity -> (Long) util.getIdentifier(entity));
+    }
+
+    /**
+     * Decodes a cursor and checks that its values convert to the key and ID types.
+     * A malformed, tampered or stale cursor gives the first page instead of an error.
+     */
+    private KeysetCursor parse(String cursor, Sort.Order order, Path<Object> key, Path<Object> id) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            if (!position.matches(order)) {
+                logger.debug("Ignoring cursor issued for a different sort order");
+                return null;
+            }
+            convert(position.getId(), id.getJavaType());
+            if (position.getKey() != null) {
+                convert(position.getKey(), key.getJavaType());
+            }
+            return position;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // NumberFormatException is an IllegalArgumentException
+            logger.debug("Ignoring malformed cursor: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Builds the predicate selecting rows strictly after the cursor row in the effective order.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate seek(CriteriaBuilder cb, Path<Object> key, Path<Object> id, KeysetCursor position,
+                           boolean ascending, boolean keyIsId) {
+        Comparable idValue = (Comparable) convert(position.getId(), id.getJavaType());
+        Expression<Comparable> idExpr = (Expression) id;
+        Predicate idAfter = ascending ? cb.greaterThan(idExpr, idValue) : cb.lessThan(idExpr, idValue);
+        if (keyIsId) {
+            return idAfter;
+        }
+
+        Expression<Comparable> keyExpr = (Expression) key;
+        if (position.getKey() == null) {
+            // NULLs sort first ascending, last descending
+            Predicate sameGroup = cb.and(cb.isNull(key), idAfter);
+            return ascending ? cb.or(sameGroup, cb.isNotNull(key)) : sameGroup;
+        }
+        Comparable keyValue = (Comparable) convert(position.getKey(), key.getJavaType());
+        Predicate keyAfter = ascending ? cb.greaterThan(keyExpr, keyValue) : cb.lessThan(keyExpr, keyValue);
+        Predicate tie = cb.and(cb.equal(key, keyValue), idAfter);
+        return ascending ? cb.or(keyAfter, tie) : cb.or(keyAfter, tie, cb.isNull(key));
+    }
+
+    private KeysetCursor toCursor(Sort.Order order, boolean forward, Tuple row) {
+        Object key = row.get(0);
+        Object id = row.get(1);
+        return new KeysetCursor(order.getProperty(), order.getDirection(), forward, format(id), key == null ? null : format(key));
+    }
+
+    private static String format(Object value) {
+        return value instanceof Enum<?> e ? e.name() : value.toString();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Double.class || type == double.class) {
+            return Double.valueOf(value);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        throw new IllegalArgumentException("Unsupported sort key type: " + type.getName());
+    }
+}
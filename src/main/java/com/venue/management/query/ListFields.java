@@ -0,0 +1,55 @@
+package com.venue.management.query;
+
+import java.util.List;
+
+/**
+ * Where the filterable columns of an entity live, as attribute paths from the entity
+ * (e.g. "venue.venueName"). Paths that do not apply are null.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class ListFields {
+
+    private final String statusPath;
+    private final List<String> searchPaths;
+    private final String startDatePath;
+    private final String endDatePath;
+    private final String ownerPath;
+
+    /**
+     * @param statusPath Status column
+     * @param searchPaths Columns matched by the free-text search
+     * @param startDatePath Start of the entity's date span
+     * @param endDatePath End of the date span; same as the start for single dates
+     * @param ownerPath ID of the owning user
+     */
+    public ListFields(String statusPath, List<String> searchPaths, String startDatePath, String endDatePath,
+                      String ownerPath) {
+        this.statusPath = statusPath;
+        this.searchPaths = searchPaths;
+        this.startDatePath = startDatePath;
+        this.endDatePath = endDatePath;
+        this.ownerPath = ownerPath;
+    }
+
+    public String getStatusPath() {
+        return statusPath;
+    }
+
+    public List<String> getSearchPaths() {
+        return searchPaths;
+    }
+
+    public String getStartDatePath() {
+        return startDatePath;
+    }
+
+    public String getEndDatePath() {
+        return endDatePath;
+    }
+
+    public String getOwnerPath() {
+        return ownerPath;
+    }
+}
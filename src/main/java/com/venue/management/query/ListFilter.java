@@ -0,0 +1,66 @@
+package com.venue.management.query;
+
+import java.time.LocalDate;
+
+/**
+ * Filter criteria of a list page: status, free-text search and a date range.
+ * Blank values and the "ALL" status mean "no filter".
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class ListFilter {
+
+    private static final ListFilter NONE = new ListFilter(null, null, null, null);
+
+    private final String status;
+    private final String search;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public ListFilter(String status, String search, LocalDate from, LocalDate to) {
+        this.status = status == null || status.isBlank() || status.equalsIgnoreCase("ALL") ? null : status.trim();
+        this.search = search == null || search.isBlank() ? null : search.trim();
+        this.from = from;
+        this.to = to;
+    }
+
+    public static ListFilter none() {
+        return NONE;
+    }
+
+    /**
+     * The same filter with the search term dropped, for when the search is answered elsewhere.
+     */
+    public ListFilter withoutSearch() {
+        return new ListFilter(status, null, from, to);
+    }
+
+    /**
+     * Whether any criterion other than the search term is set.
+     */
+    public boolean hasCriteriaBesidesSearch() {
+        return status != null || from != null || to != null;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    @Override
+    public String toString() {
+        return "status=" + status + ", search=" + search + ", from=" + from + ", to=" + to;
+    }
+}
@@ -0,0 +1,101 @@
+package com.venue.management.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs filtered, sorted and paged list queries that select projection rows.
+ * The row selection and the filter share one statement (joins are reused), and the
+ * count query is skipped when the first page already holds every row.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class ListQueryEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListQueryEngine.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads one page of rows.
+     *
+     * @param entityType The entity class
+     * @param rowType The row class
+     * @param mapping Builds the row selection
+     * @param filter Filter predicate
+     * @param pageable Page and (whitelisted) sort
+     * @return The page of rows
+     */
+    public <T, R> Page<R> findRows(Class<T> entityType, Class<R> rowType, RowMapping<T, R> mapping,
+                                   Specification<T> filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(rowType);
+        Root<T> root = query.from(entityType);
+        // Select first so the filter reuses the row's joins
+        query.select(mapping.select(root, cb));
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<R> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<R> content = typedQuery.getResultList();
+        logger.debug("Loaded {} {} rows", content.size(), rowType.getSimpleName());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityType, filter));
+    }
+
+    /**
+     * Reads the IDs of every row matching a filter, in no particular order.
+     *
+     * @param entityType The entity class
+     * @param idProperty The ID attribute
+     * @param filter Filter predicate
+     * @return The matching IDs
+     */
+    public <T> List<Long> findIds(Class<T> entityType, String idProperty, Specification<T> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get(idProperty));
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private <T> long count(Class<T> entityType, Specification<T> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,167 @@
+package com.venue.management.query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the WHERE clause of a list query from a {@link ListFilter}, so status, search,
+ * date range and owner are all applied in the same SQL statement.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public final class ListSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private ListSpecifications() {
+    }
+
+    /**
+     * Builds the filter specification.
+     *
+     * @param fields Where the entity's filterable columns live
+     * @param filter The filter criteria; null for none
+     * @param ownerId Restricts rows to this user, or null for all users
+     * @return The specification
+     */
+    public static <T> Specification<T> of(ListFields fields, ListFilter filter, Long ownerId) {
+        ListFilter criteria = filter != null ? filter : ListFilter.none();
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (ownerId != null && fields.getOwnerPath() != null) {
+                predicates.add(cb.equal(attribute(root, fields.getOwnerPath()), ownerId));
+            }
+            if (criteria.getStatus() != null && fields.getStatusPath() != null) {
+                predicates.add(status(cb, attribute(root, fields.getStatusPath()), criteria.getStatus()));
+            }
+            if (criteria.getSearch() != null && fields.getSearchPaths() != null) {
+                String term = criteria.getSearch().toLowerCase(Locale.ROOT);
+                String pattern = "%" + escape(term) + "%";
+                List<Predicate> matches = new ArrayList<>();
+                for (String path : fields.getSearchPaths()) {
+                    Path<?> column = joined(root, path);
+                    if (column.getJavaType().isEnum()) {
+                        // Stored as codes, so the names containing the term are matched in Java
+                        List<Object> named = namesContaining(column.getJavaType(), term);
+                        if (!named.isEmpty()) {
+                            matches.add(column.in(named));
+                        }
+                    } else {
+                        matches.add(cb.like(cb.lower(text(column)), pattern, ESCAPE));
+                    }
+                }
+                predicates.add(cb.or(matches.toArray(new Predicate[0])));
+            }
+            if (fields.getStartDatePath() != null) {
+                addDateRange(predicates, cb, root, fields, criteria.getFrom(), criteria.getTo());
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Matches a status column against a status name, ignoring case. Enum columns with no
+     * constant of that name match no rows.
+     */
+    private static Predicate status(CriteriaBuilder cb, Path<?> path, String status) {
+        if (!path.getJavaType().isEnum()) {
+            return cb.equal(path, status);
+        }
+        for (Object constant : path.getJavaType().getEnumConstants()) {
+            if (((Enum<?>) constant).name().equalsIgnoreCase(status.trim())) {
+                return cb.equal(path, constant);
+            }
+        }
+        return cb.disjunction();
+    }
+
+    private static List<Object> namesContaining(Class<?> type, String term) {
+        List<Object> named = new ArrayList<>();
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().toLowerCase(Locale.ROOT).contains(term)) {
+                named.add(constant);
+            }
+        }
+        return named;
+    }
+
+    /**
+     * Keeps rows whose date span [start, end] overlaps [from, to]; either bound may be open.
+     */
+    @SuppressWarnings("unchecked")
+    private static void addDateRange(List<Predicate> predicates, CriteriaBuilder cb, From<?, ?> root,
+                                     ListFields fields, LocalDate from, LocalDate to) {
+        Path<?> start = attribute(root, fields.getStartDatePath());
+        Path<?> end = attribute(root, fields.getEndDatePath() != null ? fields.getEndDatePath() : fields.getStartDatePath());
+        if (LocalDateTime.class.equals(start.getJavaType())) {
+            if (to != null) {
+                predicates.add(cb.lessThan((Expression<LocalDateTime>) start, to.plusDays(1).atStartOfDay()));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo((Expression<LocalDateTime>) end, from.atStartOfDay()));
+            }
+        } else {
+            if (to != null) {
+                predicates.add(cb.lessThanOrEqualTo((Expression<LocalDate>) start, to));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo((Expression<LocalDate>) end, from));
+            }
+        }
+    }
+
+    /**
+     * Resolves a dotted path with implicit navigation, which lets a trailing foreign-key
+     * ID (e.g. "user.userId") be read from the owning table without a join.
+     */
+    static Path<?> attribute(From<?, ?> root, String dotted) {
+        Path<?> path = root;
+        for (String part : dotted.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    /**
+     * Resolves a dotted path through inner joins, reusing joins already on the query
+     * (e.g. those created by the row selection).
+     */
+    static Path<?> joined(From<?, ?> root, String dotted) {
+        String[] parts = dotted.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < parts.length - 1; i++) {
+            from = join(from, parts[i]);
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<String> text(Path<?> path) {
+        return (Expression<String>) path;
+    }
+
+    private static From<?, ?> join(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute);
+    }
+
+    private static String escape(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
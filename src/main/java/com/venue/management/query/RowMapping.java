@@ -0,0 +1,18 @@
+package com.venue.management.query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Selects a list row (typically a record built with {@code cb.construct}) from an entity root.
+ *
+ * @param <T> Entity type
+ * @param <R> Row type
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RowMapping<T, R> {
+    Selection<R> select(Root<T> root, CriteriaBuilder cb);
+}
@@ -0,0 +1,73 @@
+package com.venue.management.query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sort fields a list accepts, each mapped to an indexed entity attribute.
+ * Unknown fields fall back to the ID, so request parameters can never order by an
+ * arbitrary (unindexed) column.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class SortWhitelist {
+
+    private static final Logger logger = LoggerFactory.getLogger(SortWhitelist.class);
+
+    private final Map<String, String> fields;
+    private final String idProperty;
+
+    /**
+     * @param fields Accepted sort field names mapped to entity attributes
+     * @param idProperty The ID attribute, used as fallback and tie-breaker
+     */
+    public SortWhitelist(Map<String, String> fields, String idProperty) {
+        this.fields = fields;
+        this.idProperty = idProperty;
+    }
+
+    /**
+     * Maps a requested order onto an allowed attribute.
+     */
+    public Sort.Order resolve(Sort.Order requested) {
+        if (requested == null) {
+            return Sort.Order.desc(idProperty);
+        }
+        String property = fields.get(requested.getProperty());
+        if (property == null) {
+            logger.debug("Sort field '{}' is not allowed, using {}", requested.getProperty(), idProperty);
+            property = idProperty;
+        }
+        return new Sort.Order(requested.getDirection(), property);
+    }
+
+    /**
+     * Maps the sort of a page request onto allowed attributes and appends the ID as a
+     * tie-breaker, so pages are stable.
+     */
+    public Pageable apply(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        boolean hasId = false;
+        for (Sort.Order order : pageable.getSort()) {
+            Sort.Order resolved = resolve(order);
+            hasId |= resolved.getProperty().equals(idProperty);
+            orders.add(resolved);
+        }
+        if (!hasId) {
+            Sort.Direction direction = orders.isEmpty() ? Sort.Direction.DESC : orders.get(0).getDirection();
+            orders.add(new Sort.Order(direction, idProperty));
+        }
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+}
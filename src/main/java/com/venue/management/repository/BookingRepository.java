@@ -3,14 +3,25 @@ package com.venue.management.repository;
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue; // Ensure Venue is imported
+import com.venue.management.repository.projection.BookingInterval;
+import com.venue.management.repository.projection.BookingRow;
+import com.venue.management.repository.projection.StatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 //import org.springframework.data.repository.CrudRepository;
 //import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Booking entity operations.
@@ -21,6 +32,15 @@ import java.util.List;
  */
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    // Fetch plan for list and detail views: associations are LAZY, the graph joins them in one statement
+    @Override
+    @EntityGraph("Booking.list")
+    Optional<Booking> findById(Long id);
+
+    @Override
+    @EntityGraph("Booking.list")
+    Page<Booking> findAll(Pageable pageable);
+
     List<Booking> findByUser(User user);
     
     
@@ -28,15 +48,97 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Add this method to resolve the undefined method error
     List<Booking> findByVenue(Venue venue);
 
-    // Supporting methods for pagination and filtering
-    Page<Booking> findByUser(User user, Pageable pageable);
-    Page<Booking> findByStatus(String status, Pageable pageable);
-    Page<Booking> findByUserAndStatus(User user, String status, Pageable pageable);
-    
-    // Search methods
-    Page<Booking> findByVenue_VenueNameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Booking> findByUser_UsernameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Booking> findByStatusContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Booking>  findByVenue_VenueNameContainingIgnoreCaseOrUser_UsernameContainingIgnoreCaseOrStatusContainingIgnoreCase(
-        String venueName, String username, String status, Pageable pageable);
+    // Keyset-page rows: only the displayed columns, no User or Venue entities
+    String BOOKING_ROW = "SELECT new com.venue.management.repository.projection.BookingRow("
+        + "b.bookingId, v.venueName, u.username, b.eventDate, b.endDate, b.eventType, b.status) "
+        + "FROM Booking b JOIN b.venue v JOIN b.user u ";
+
+    // Rows of one keyset page, in no particular order
+    @Query(BOOKING_ROW + "WHERE b.bookingId IN :ids")
+    List<BookingRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    String BOOKING_INTERVAL = "SELECT b.bookingId AS bookingId, b.venue.venueId AS venueId, b.eventDate AS eventDate, "
+        + "b.endDate AS endDate, b.holdExpiresAt AS holdExpiresAt FROM Booking b ";
+
+    // Date ranges of every booking that holds its venue, used to build the booking index
+    @Query(BOOKING_INTERVAL + "WHERE b.status NOT IN (com.venue.management.entity.BookingStatus.CANCELLED, "
+        + "com.venue.management.entity.BookingStatus.EXPIRED)")
+    List<BookingInterval> findActiveIntervals();
+
+    // Bookings per status, used to reconcile the dashboard counters
+    @Query("SELECT b.status AS status, COUNT(b) AS count FROM Booking b GROUP BY b.status")
+    List<StatusCount> countByStatus();
+
+    // Conflict check: any booking holding the venue with eventDate <= end and endDate >= start.
+    // Holds past their expiry no longer count, even before they are released.
+    // Served by the (venue_id, event_date, end_date) index.
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.venue.venueId = :venueId "
+        + "AND b.eventDate <= :endDate AND b.endDate >= :eventDate "
+        + "AND b.status NOT IN (com.venue.management.entity.BookingStatus.CANCELLED, "
+        + "com.venue.management.entity.BookingStatus.EXPIRED) "
+        + "AND (b.status <> com.venue.management.entity.BookingStatus.HELD OR b.holdExpiresAt > :now)")
+    boolean existsActiveOverlap(@Param("venueId") Long venueId, @Param("eventDate") LocalDate eventDate,
+                                @Param("endDate") LocalDate endDate, @Param("now") LocalDateTime now);
+
+    // Open bookings to watch for their end date; only those confirmed by then are completed
+    @Query(BOOKING_INTERVAL + "WHERE b.status NOT IN (com.venue.management.entity.BookingStatus.COMPLETED, "
+        + "com.venue.management.entity.BookingStatus.CANCELLED, com.venue.management.entity.BookingStatus.EXPIRED)")
+    List<BookingInterval> findCompletionCandidates();
+
+    // Bulk auto-completion of every booking whose end date has passed
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.venue.management.entity.BookingStatus.COMPLETED, "
+        + "b.version = b.version + 1 WHERE b.endDate < :today "
+        + "AND b.status = com.venue.management.entity.BookingStatus.CONFIRMED")
+    int completeBookingsEndedBefore(@Param("today") LocalDate today);
+
+    // Bulk auto-completion restricted to the given bookings
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.venue.management.entity.BookingStatus.COMPLETED, "
+        + "b.version = b.version + 1 WHERE b.bookingId IN :ids AND b.endDate < :today "
+        + "AND b.status = com.venue.management.entity.BookingStatus.CONFIRMED")
+    int completeBookingsEndedBefore(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    // Starts paying for a hold, only if it has not expired; 0 if it has. Clears the persistence
+    // context, as a booking loaded before would otherwise be flushed over the new version
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = com.venue.management.entity.BookingStatus.PENDING, "
+        + "b.holdExpiresAt = NULL, b.version = b.version + 1 "
+        + "WHERE b.bookingId = :id AND b.status = com.venue.management.entity.BookingStatus.HELD "
+        + "AND b.holdExpiresAt > :now")
+    int claimLiveHold(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Holds to track on the expiry wheel
+    @Query(BOOKING_INTERVAL + "WHERE b.status = com.venue.management.entity.BookingStatus.HELD")
+    List<BookingInterval> findHolds();
+
+    // Holds past their expiry, on every venue or on one; served by the (status, hold_expires_at) index
+    @Query("SELECT b.bookingId FROM Booking b WHERE b.status = com.venue.management.entity.BookingStatus.HELD "
+        + "AND b.holdExpiresAt <= :now")
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now);
+
+    @Query("SELECT b.bookingId FROM Booking b WHERE b.status = com.venue.management.entity.BookingStatus.HELD "
+        + "AND b.holdExpiresAt <= :now AND b.venue.venueId = :venueId")
+    List<Long> findExpiredHoldIds(@Param("venueId") Long venueId, @Param("now") LocalDateTime now);
+
+    // Bulk release of the given holds; ones paid or cancelled meanwhile are left alone
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.venue.management.entity.BookingStatus.EXPIRED, "
+        + "b.version = b.version + 1 WHERE b.bookingId IN :ids "
+        + "AND b.status = com.venue.management.entity.BookingStatus.HELD AND b.holdExpiresAt <= :now")
+    int expireHolds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Which of the given bookings are expired, after a bulk release
+    @Query(BOOKING_INTERVAL + "WHERE b.bookingId IN :ids "
+        + "AND b.status = com.venue.management.entity.BookingStatus.EXPIRED")
+    List<BookingInterval> findExpiredIn(@Param("ids") Collection<Long> ids);
+
+    // Bookings left PENDING without a live payment, from before holds existed
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.venue.management.entity.BookingStatus.HELD, "
+        + "b.holdExpiresAt = :expiresAt, b.version = b.version + 1 "
+        + "WHERE b.status = com.venue.management.entity.BookingStatus.PENDING "
+        + "AND NOT EXISTS (SELECT p FROM Payment p WHERE p.booking = b "
+        + "AND p.paymentStatus <> com.venue.management.entity.PaymentStatus.FAILED)")
+    int holdUnpaidPendingBookings(@Param("expiresAt") LocalDateTime expiresAt);
 }
\ No newline at end of file
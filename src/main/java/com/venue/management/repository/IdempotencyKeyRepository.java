@@ -0,0 +1,28 @@
+package com.venue.management.repository;
+
+import com.venue.management.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Inserts the key; fails on the primary key if another request already claimed it
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, created_at) VALUES (:key, :createdAt)",
+        nativeQuery = true)
+    void claim(@Param("key") String key, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.resultId = :resultId WHERE k.key = :key")
+    int recordResult(@Param("key") String key, @Param("resultId") Long resultId);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
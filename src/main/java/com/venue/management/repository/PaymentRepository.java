@@ -2,13 +2,20 @@ package com.venue.management.repository;
 
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.Payment;
+import com.venue.management.entity.PaymentStatus;
+import com.venue.management.repository.projection.PaymentRow;
+import com.venue.management.repository.projection.StatusTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 //import org.springframework.data.repository.CrudRepository;
 //import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,28 +27,45 @@ import java.util.Optional;
  */
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    // Fetch plan for list and detail views: associations are LAZY, the graph joins them in one statement
+    @Override
+    @EntityGraph("Payment.list")
+    Optional<Payment> findById(Long id);
+
+    @Override
+    @EntityGraph("Payment.list")
+    Page<Payment> findAll(Pageable pageable);
+
     Optional<Payment> findByBooking(Booking booking);
+
+    // Refund path: resolves the booking FK directly, without loading the booking
+    Optional<Payment> findByBooking_BookingId(Long bookingId);
     
-    // Pagination & Filtering methods
-    Page<Payment> findByBooking_User_UserId(Long userId, Pageable pageable);
-    Page<Payment> findByPaymentStatus(String status, Pageable pageable);
-    Page<Payment> findByBooking_User_UserIdAndPaymentStatus(Long userId, String status, Pageable pageable);
-    
+    // Keyset-page rows: only the displayed columns, no Booking, User or Venue entities
+    String PAYMENT_ROW = "SELECT new com.venue.management.repository.projection.PaymentRow("
+        + "p.paymentId, u.username, v.venueName, b.status, p.paymentAmount, p.paymentDate, p.paymentStatus) "
+        + "FROM Payment p JOIN p.booking b JOIN b.user u JOIN b.venue v ";
+
+    // Rows of one keyset page, in no particular order
+    @Query(PAYMENT_ROW + "WHERE p.paymentId IN :ids")
+    List<PaymentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT sum(p.paymentAmount) FROM Payment p")
     Double sumOfPayments();
     
    // Double sumByPaymentAmount();
     
 //    @Query("SELECT COUNT(p) FROM Payment p WHERE p.paymentStatus = ?1")
-    long countByPaymentStatus(String status);
+    long countByPaymentStatus(PaymentStatus status);
+
+    // Payments still waiting for the gateway
+    List<Payment> findByPaymentStatus(PaymentStatus status);
     
-    @Query("SELECT SUM(p.paymentAmount) FROM Payment p WHERE p.paymentStatus = 'REFUNDED'")
+    @Query("SELECT SUM(p.paymentAmount) FROM Payment p WHERE p.paymentStatus = com.venue.management.entity.PaymentStatus.REFUNDED")
     Double sumRefundedPayments();  //Double sumByPaymentAmountAndPaymentStatus(String status);
-    
-    // Search methods
-    Page<Payment> findByBooking_Venue_VenueNameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Payment> findByBooking_User_UsernameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Payment> findByPaymentStatusContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Payment> findByBooking_Venue_VenueNameContainingIgnoreCaseOrBooking_User_UsernameContainingIgnoreCaseOrPaymentStatusContainingIgnoreCase(
-        String venueName, String username, String status, Pageable pageable);
+
+    // Count and amount per payment status, used to reconcile the dashboard counters
+    @Query("SELECT p.paymentStatus AS status, COUNT(p) AS count, SUM(p.paymentAmount) AS total "
+        + "FROM Payment p GROUP BY p.paymentStatus")
+    List<StatusTotal> sumByPaymentStatus();
 }
\ No newline at end of file
@@ -1,15 +1,24 @@
 package com.venue.management.repository;
 
 import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.TicketStatus;
 import com.venue.management.entity.User;
+import com.venue.management.repository.projection.TicketRow;
+import com.venue.management.repository.projection.StatusCount;
+import com.venue.management.repository.projection.TicketText;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 //import org.springframework.data.repository.CrudRepository;
 //import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for SupportTicket entity operations.
@@ -20,22 +29,36 @@ import java.util.List;
  */
 @Repository
 public interface SupportTicketRepository extends JpaRepository<SupportTicket, Long> {
+    // Fetch plan for list and detail views: associations are LAZY, the graph joins them in one statement
+    @Override
+    @EntityGraph("SupportTicket.list")
+    Optional<SupportTicket> findById(Long id);
+
+    @Override
+    @EntityGraph("SupportTicket.list")
+    Page<SupportTicket> findAll(Pageable pageable);
+
     List<SupportTicket> findByCustomer(User customer);
-    long countByTicketStatus(String ticketStatus);
+    long countByTicketStatus(TicketStatus ticketStatus);
+
+    // Tickets per status, used to reconcile the dashboard counters
+    @Query("SELECT t.ticketStatus AS status, COUNT(t) AS count FROM SupportTicket t GROUP BY t.ticketStatus")
+    List<StatusCount> countByStatus();
     
     List<SupportTicket> findByIssueType(String issueType);
     
-    // Pagination and sorting methods
-    Page<SupportTicket> findByCustomer(User customer, Pageable pageable);
-    Page<SupportTicket> findByTicketStatus(String status, Pageable pageable);
-    Page<SupportTicket> findByIssueType(String issueType, Pageable pageable);
-    Page<SupportTicket> findByCustomerAndTicketStatus(User customer, String status, Pageable pageable);
-    
-    // Search methods
-    Page<SupportTicket> findByCustomer_UsernameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<SupportTicket> findByIssueTypeContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<SupportTicket> findByTicketStatusContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<SupportTicket> findByIssueDescriptionContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<SupportTicket> findByCustomer_UsernameContainingIgnoreCaseOrIssueTypeContainingIgnoreCaseOrTicketStatusContainingIgnoreCaseOrIssueDescriptionContainingIgnoreCase(
-        String username, String issueType, String status, String description, Pageable pageable);
+    // Keyset-page rows: only the displayed columns, no User entity
+    String TICKET_ROW = "SELECT new com.venue.management.repository.projection.TicketRow("
+        + "t.ticketId, t.issueDescription, t.issueType, t.ticketStatus, t.createdDate, t.resolutionNotes, c.role) "
+        + "FROM SupportTicket t JOIN t.customer c ";
+
+    // Searchable text of every ticket, used to build the ticket search index
+    @Query("SELECT t.ticketId AS ticketId, t.issueDescription AS issueDescription, t.issueType AS issueType, "
+        + "t.resolutionNotes AS resolutionNotes, c.username AS username, c.userId AS customerId "
+        + "FROM SupportTicket t JOIN t.customer c")
+    List<TicketText> findSearchTexts();
+
+    // Rows of one keyset page, in no particular order
+    @Query(TICKET_ROW + "WHERE t.ticketId IN :ids")
+    List<TicketRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,11 +3,17 @@ package com.venue.management.repository;
 import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 //import org.springframework.data.repository.CrudRepository;
 //import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -22,4 +28,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 	boolean existsByRole(Role admin);
+
+    // One page of users with a role and enabled flag, served by idx_users_role_enabled
+    Page<User> findByRoleAndEnabled(Role role, boolean enabled, Pageable pageable);
+
+    long countByRoleAndEnabled(Role role, boolean enabled);
+
+    // Bulk approval of pending accounts; accounts that are not pending are left alone
+    @Modifying
+    @Query("UPDATE User u SET u.enabled = true WHERE u.userId IN :ids AND u.role = :role AND u.enabled = false")
+    int enablePending(@Param("ids") Collection<Long> ids, @Param("role") Role role);
+
+    // Bulk rejection of pending accounts; accounts that are not pending are left alone
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.userId IN :ids AND u.role = :role AND u.enabled = false")
+    int deletePending(@Param("ids") Collection<Long> ids, @Param("role") Role role);
 }
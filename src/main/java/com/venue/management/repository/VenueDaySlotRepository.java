@@ -0,0 +1,27 @@
+package com.venue.management.repository;
+
+import com.venue.management.entity.VenueDaySlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface VenueDaySlotRepository extends JpaRepository<VenueDaySlot, VenueDaySlot.Key>, VenueDaySlotRepositoryCustom {
+
+    // Frees every day held by a booking; served by the booking_id index
+    @Modifying
+    @Query("DELETE FROM VenueDaySlot s WHERE s.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") Long bookingId);
+
+    @Modifying
+    @Query("DELETE FROM VenueDaySlot s WHERE s.bookingId IN :bookingIds")
+    int deleteByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Modifying
+    @Query("DELETE FROM VenueDaySlot s WHERE s.venueId = :venueId")
+    int deleteByVenueId(@Param("venueId") Long venueId);
+}
@@ -0,0 +1,25 @@
+package com.venue.management.repository;
+
+import com.venue.management.repository.projection.BookingInterval;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Batched inserts of venue day slots, which Spring Data cannot express as query methods.
+ */
+public interface VenueDaySlotRepositoryCustom {
+
+    /**
+     * Holds every day from {@code from} to {@code to} (inclusive) of a venue for a booking,
+     * in one JDBC batch.
+     *
+     * @throws org.springframework.dao.DuplicateKeyException if any of the days is already held
+     */
+    void reserve(Long venueId, Long bookingId, LocalDate from, LocalDate to);
+
+    /**
+     * Holds the days of existing bookings, skipping days already held.
+     */
+    void reserveMissing(List<BookingInterval> intervals);
+}
@@ -0,0 +1,55 @@
+package com.venue.management.repository;
+
+import com.venue.management.repository.projection.BookingInterval;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of the slot inserts. The statements run on the connection of the
+ * current JPA transaction; with {@code rewriteBatchedStatements} the MySQL driver sends
+ * each batch as a single multi-row INSERT.
+ */
+public class VenueDaySlotRepositoryImpl implements VenueDaySlotRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO venue_day_slots (venue_id, day, booking_id) VALUES (?, ?, ?)";
+    private static final String INSERT_MISSING = "INSERT IGNORE INTO venue_day_slots (venue_id, day, booking_id) VALUES (?, ?, ?)";
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void reserve(Long venueId, Long bookingId, LocalDate from, LocalDate to) {
+        List<Object[]> rows = new ArrayList<>();
+        addDays(rows, venueId, bookingId, from, to);
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    @Override
+    public void reserveMissing(List<BookingInterval> intervals) {
+        List<Object[]> rows = new ArrayList<>();
+        for (BookingInterval interval : intervals) {
+            addDays(rows, interval.getVenueId(), interval.getBookingId(), interval.getEventDate(), interval.getEndDate());
+            if (rows.size() >= BACKFILL_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_MISSING, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MISSING, rows);
+        }
+    }
+
+    private static void addDays(List<Object[]> rows, Long venueId, Long bookingId, LocalDate from, LocalDate to) {
+        LocalDate last = to != null ? to : from;
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            rows.add(new Object[] {venueId, Date.valueOf(day), bookingId});
+        }
+    }
+}
@@ -1,33 +1,76 @@
 package com.venue.management.repository;
 
 import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.repository.projection.VenueText;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 //import org.springframework.data.repository.CrudRepository;
 //import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Venue entity operations.
- * Extends JpaRepository to provide CRUD and pagination/sorting capabilities.
+ * Extends JpaRepository to provide CRUD and pagination/sorting capabilities,
+ * and JpaSpecificationExecutor for the filtered venue list.
  * 
  * @author Event Venue Management System
  * @version 1.0
  */
 @Repository
-public interface VenueRepository extends JpaRepository<Venue, Long> {
-    List<Venue> findByStatus(String status);
+public interface VenueRepository extends JpaRepository<Venue, Long>, JpaSpecificationExecutor<Venue> {
+    List<Venue> findByStatus(VenueStatus status);
     
     // Pagination and sorting methods
-    Page<Venue> findByStatus(String status, Pageable pageable);
-    
-    // Search methods
-    Page<Venue> findByVenueNameContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Venue> findByLocationContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Venue> findByStatusContainingIgnoreCase(String searchTerm, Pageable pageable);
-    Page<Venue> findByVenueNameContainingIgnoreCaseOrLocationContainingIgnoreCaseOrStatusContainingIgnoreCase(
-    String venueName, String location, String status, Pageable pageable);
+    Page<Venue> findByStatus(VenueStatus status, Pageable pageable);
+
+    // Searchable text of every venue, used to build the venue search index
+    @Query("SELECT v.venueId AS venueId, v.venueName AS venueName, v.location AS location, v.status AS status FROM Venue v")
+    List<VenueText> findSearchTexts();
+
+    // SELECT ... FOR UPDATE on the venue row; serializes booking creation per venue
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Venue v WHERE v.venueId = :venueId")
+    Optional<Venue> findByIdForUpdate(@Param("venueId") Long venueId);
+
+    // One batch of candidate IDs for the availability search; date conflicts are filtered against the booking index
+    @Query("SELECT v.venueId FROM Venue v WHERE v.status = com.venue.management.entity.VenueStatus.AVAILABLE "
+        + "AND (:minCapacity IS NULL OR v.capacity >= :minCapacity) "
+        + "AND (:maxPrice IS NULL OR v.pricePerDay <= :maxPrice)")
+    List<Long> findAvailableVenueIds(@Param("minCapacity") Integer minCapacity,
+                                     @Param("maxPrice") Double maxPrice, Pageable pageable);
+
+    // Venues with an image whose resized copies were never generated
+    @Query("SELECT v FROM Venue v WHERE v.imagePath IS NOT NULL AND v.thumbnailPath IS NULL")
+    List<Venue> findMissingImageVariants();
+
+    // Records the resized copies, unless the venue's image was replaced in the meantime. Leaves the
+    // version alone: the copies follow from the image, so an edit form opened before stays valid
+    @Modifying
+    @Query("UPDATE Venue v SET v.thumbnailPath = :thumbnail, v.cardImagePath = :card, v.heroImagePath = :hero "
+        + "WHERE v.venueId = :venueId AND v.imagePath = :imagePath")
+    int updateImageVariants(@Param("venueId") Long venueId, @Param("imagePath") String imagePath,
+                            @Param("thumbnail") String thumbnail, @Param("card") String card,
+                            @Param("hero") String hero);
+
+    // Venues whose image is still a path from before the image store, e.g. "/images/name.jpg"
+    @Query("SELECT v FROM Venue v WHERE v.imagePath LIKE '/%'")
+    List<Venue> findWithLegacyImages();
+
+    // Points the venue at a new image and drops the copies of the old one
+    @Modifying
+    @Query("UPDATE Venue v SET v.imagePath = :newImage, v.thumbnailPath = NULL, v.cardImagePath = NULL, "
+        + "v.heroImagePath = NULL WHERE v.venueId = :venueId AND v.imagePath = :oldImage")
+    int replaceImage(@Param("venueId") Long venueId, @Param("oldImage") String oldImage,
+                     @Param("newImage") String newImage);
 }
@@ -0,0 +1,19 @@
+package com.venue.management.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Narrow read of a booking's date range, used to build the in-memory booking index.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface BookingInterval {
+    Long getBookingId();
+    Long getVenueId();
+    LocalDate getEventDate();
+    LocalDate getEndDate();
+    // Null unless the booking is HELD
+    LocalDateTime getHoldExpiresAt();
+}
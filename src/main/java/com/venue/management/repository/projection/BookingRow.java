@@ -0,0 +1,21 @@
+package com.venue.management.repository.projection;
+
+import com.venue.management.entity.BookingStatus;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the bookings list: only the columns the list page displays.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public record BookingRow(
+        Long bookingId,
+        String venueName,
+        String username,
+        LocalDate eventDate,
+        LocalDate endDate,
+        String eventType,
+        BookingStatus status) {
+}
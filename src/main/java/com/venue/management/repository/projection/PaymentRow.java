@@ -0,0 +1,22 @@
+package com.venue.management.repository.projection;
+
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the payment lists: only the columns the payment pages display.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public record PaymentRow(
+        Long paymentId,
+        String username,
+        String venueName,
+        BookingStatus bookingStatus,
+        double paymentAmount,
+        LocalDateTime paymentDate,
+        PaymentStatus paymentStatus) {
+}
@@ -0,0 +1,12 @@
+package com.venue.management.repository.projection;
+
+/**
+ * Number of rows with one status, read by a GROUP BY query to reconcile the dashboard counters.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface StatusCount {
+    Enum<?> getStatus();
+    Long getCount();
+}
@@ -0,0 +1,13 @@
+package com.venue.management.repository.projection;
+
+/**
+ * Number and amount of payments with one status, read by a GROUP BY query to reconcile the dashboard counters.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface StatusTotal {
+    Enum<?> getStatus();
+    Long getCount();
+    Double getTotal();
+}
@@ -0,0 +1,22 @@
+package com.venue.management.repository.projection;
+
+import com.venue.management.entity.Role;
+import com.venue.management.entity.TicketStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the support ticket list: only the columns the list page displays.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public record TicketRow(
+        Long ticketId,
+        String issueDescription,
+        String issueType,
+        TicketStatus ticketStatus,
+        LocalDateTime createdDate,
+        String resolutionNotes,
+        Role customerRole) {
+}
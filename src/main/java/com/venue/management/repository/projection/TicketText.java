@@ -0,0 +1,16 @@
+package com.venue.management.repository.projection;
+
+/**
+ * Narrow read of a support ticket's searchable text, used to build the ticket search index.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface TicketText {
+    Long getTicketId();
+    String getIssueDescription();
+    String getIssueType();
+    String getResolutionNotes();
+    String getUsername();
+    Long getCustomerId();
+}
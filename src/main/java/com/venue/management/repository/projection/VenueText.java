@@ -0,0 +1,16 @@
+package com.venue.management.repository.projection;
+
+import com.venue.management.entity.VenueStatus;
+
+/**
+ * Narrow read of a venue's searchable text, used to build the in-memory venue search index.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface VenueText {
+    Long getVenueId();
+    String getVenueName();
+    String getLocation();
+    VenueStatus getStatus();
+}
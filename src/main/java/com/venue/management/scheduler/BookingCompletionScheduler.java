@@ -0,0 +1,113 @@
+package com.venue.management.scheduler;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.projection.BookingInterval;
+import com.venue.management.service.stats.DashboardCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Marks bookings as COMPLETED once their end date has passed.
+ * Every open booking is tracked on a timing wheel that fires at the start of the day
+ * after its end date; due bookings are completed with one bulk update per tick.
+ * A nightly sweep runs the same bulk update over the whole table to catch anything
+ * the wheel missed (e.g. rows changed while the application was down).
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class BookingCompletionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingCompletionScheduler.class);
+
+    private static final long TICK_MILLIS = 60_000L;
+    private static final int WHEEL_SIZE = 2048;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    private final HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    /**
+     * Completes overdue bookings and loads the remaining open bookings onto the wheel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        int completed = bookingRepository.completeBookingsEndedBefore(LocalDate.now());
+        recount(completed);
+        List<BookingInterval> candidates = bookingRepository.findCompletionCandidates();
+        for (BookingInterval candidate : candidates) {
+            schedule(candidate.getBookingId(), candidate.getEndDate() != null ? candidate.getEndDate() : candidate.getEventDate());
+        }
+        logger.info("Completed {} overdue bookings at startup; tracking {} open bookings", completed, candidates.size());
+    }
+
+    /**
+     * Starts tracking a booking, or refreshes it after its dates or status changed.
+     * 
+     * @param booking The booking to track
+     */
+    public void track(Booking booking) {
+        if (booking.getStatus().next().isEmpty()) {
+            wheel.cancel(booking.getBookingId());
+            return;
+        }
+        schedule(booking.getBookingId(), booking.getEndDate() != null ? booking.getEndDate() : booking.getEventDate());
+    }
+
+    /**
+     * Completes the bookings whose end date passed since the last tick.
+     */
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    @Transactional
+    public void fireDueCompletions() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        int completed = bookingRepository.completeBookingsEndedBefore(due, LocalDate.now());
+        recount(completed);
+        logger.info("Auto-completed {} of {} bookings whose end date passed", completed, due.size());
+    }
+
+    /**
+     * Nightly reconciliation sweep over the whole bookings table.
+     */
+    @Scheduled(cron = "${booking.completion.sweep-cron:0 5 0 * * *}")
+    @Transactional
+    public void completeEndedBookings() {
+        int completed = bookingRepository.completeBookingsEndedBefore(LocalDate.now());
+        recount(completed);
+        logger.info("Nightly sweep auto-completed {} bookings", completed);
+    }
+
+    /**
+     * Bulk updates do not report the statuses they replaced, so the booking counters are reloaded.
+     */
+    private void recount(int completed) {
+        if (completed > 0) {
+            counters.reconcileBookings();
+        }
+    }
+
+    private void schedule(Long bookingId, LocalDate endDate) {
+        long deadline = endDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        wheel.schedule(bookingId, deadline);
+    }
+}
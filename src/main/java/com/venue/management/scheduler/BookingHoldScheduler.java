@@ -0,0 +1,174 @@
+package com.venue.management.scheduler;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueDaySlotRepository;
+import com.venue.management.repository.projection.BookingInterval;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.stats.DashboardCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Releases booking holds that were not paid in time.
+ * A new booking is HELD until its hold expires; every hold is tracked on a timing wheel,
+ * and the holds due at each tick are marked EXPIRED with one bulk update, then dropped
+ * from the booking index and the day slots. A periodic sweep catches holds created on
+ * other nodes or changed while the application was down.
+ *
+ * Expired holds already stop counting toward conflicts before they are released; see
+ * {@link VenueBookingIndex} and {@link BookingRepository#existsActiveOverlap}.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class BookingHoldScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingHoldScheduler.class);
+
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SIZE = 1024;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private VenueDaySlotRepository daySlotRepository;
+
+    @Autowired
+    private VenueBookingIndex bookingIndex;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Value("${booking.hold.minutes:15}")
+    private long holdMinutes;
+
+    private final HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    /**
+     * Gives the unpaid PENDING bookings of earlier versions a hold, releases overdue holds
+     * and loads the remaining ones onto the wheel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        int migrated = bookingRepository.holdUnpaidPendingBookings(LocalDateTime.now().plusMinutes(holdMinutes));
+        if (migrated > 0) {
+            counters.reconcileBookings();
+        }
+        int released = release(bookingRepository.findExpiredHoldIds(LocalDateTime.now()));
+        List<BookingInterval> holds = bookingRepository.findHolds();
+        for (BookingInterval hold : holds) {
+            schedule(hold.getBookingId(), hold.getHoldExpiresAt());
+        }
+        logger.info("Held {} unpaid pending bookings and released {} expired holds at startup; tracking {} holds",
+            migrated, released, holds.size());
+    }
+
+    /**
+     * Puts a new booking on hold until the configured hold period has passed.
+     * The booking still has to be saved and then tracked.
+     *
+     * @param booking The booking to hold
+     */
+    public void hold(Booking booking) {
+        booking.setStatus(BookingStatus.HELD);
+        booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(holdMinutes));
+    }
+
+    /**
+     * Starts tracking a hold, or stops once the booking is no longer HELD.
+     *
+     * @param booking The booking to track
+     */
+    public void track(Booking booking) {
+        if (booking.getStatus() != BookingStatus.HELD || booking.getHoldExpiresAt() == null) {
+            wheel.cancel(booking.getBookingId());
+            return;
+        }
+        schedule(booking.getBookingId(), booking.getHoldExpiresAt());
+    }
+
+    /**
+     * Releases the holds that expired since the last tick.
+     */
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    @Transactional
+    public void fireExpiredHolds() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        int released = release(due);
+        logger.info("Released {} of {} holds that expired", released, due.size());
+    }
+
+    /**
+     * Sweep over every HELD booking, for holds this node is not tracking.
+     */
+    @Scheduled(fixedDelayString = "${booking.hold.sweep-interval-ms:300000}")
+    @Transactional
+    public void sweepExpiredHolds() {
+        int released = release(bookingRepository.findExpiredHoldIds(LocalDateTime.now()));
+        if (released > 0) {
+            logger.info("Sweep released {} expired holds", released);
+        }
+    }
+
+    /**
+     * Releases the expired holds of one venue right away, e.g. when their day slots
+     * block a new booking. Joins the caller's transaction.
+     *
+     * @param venueId The venue ID
+     * @return Number of holds released
+     */
+    @Transactional
+    public int releaseExpiredHolds(Long venueId) {
+        return release(bookingRepository.findExpiredHoldIds(venueId, LocalDateTime.now()));
+    }
+
+    /**
+     * Marks the given holds EXPIRED, skipping any paid or cancelled meanwhile, and frees
+     * their days.
+     */
+    private int release(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int released = bookingRepository.expireHolds(ids, LocalDateTime.now());
+        if (released == 0) {
+            return 0;
+        }
+        List<BookingInterval> expired = bookingRepository.findExpiredIn(ids);
+        List<Long> expiredIds = expired.stream().map(BookingInterval::getBookingId).toList();
+        daySlotRepository.deleteByBookingIdIn(expiredIds);
+        for (BookingInterval booking : expired) {
+            bookingIndex.remove(booking.getVenueId(), booking.getBookingId());
+            wheel.cancel(booking.getBookingId());
+        }
+        // expireHolds only matches HELD rows, so each released row moved from HELD to EXPIRED
+        for (int i = 0; i < released; i++) {
+            counters.bookingChanged(BookingStatus.HELD, BookingStatus.EXPIRED);
+        }
+        return released;
+    }
+
+    private void schedule(Long bookingId, LocalDateTime expiresAt) {
+        wheel.schedule(bookingId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,108 @@
+package com.venue.management.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel for keyed deadlines.
+ * Each deadline is hashed onto a bucket by its tick; advancing the wheel only visits
+ * the buckets for the ticks that elapsed, so scheduling, cancelling and firing are O(1)
+ * amortized regardless of how many deadlines are pending.
+ *
+ * The wheel does not own a thread: callers drive it with {@link #advance(long)}.
+ *
+ * @param <K> Key type identifying a scheduled deadline
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis Duration of one tick in milliseconds
+     * @param wheelSize Number of buckets; rounded up to a power of two
+     * @param startMillis Current time in milliseconds
+     */
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules (or reschedules) a key to fire at the given time.
+     * Deadlines already in the past fire on the next advance.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        buckets.get((int) (tick & mask)).put(key, tick);
+        deadlineTicks.put(key, tick);
+    }
+
+    /**
+     * Cancels a pending deadline.
+     *
+     * @return true if the key was scheduled
+     */
+    public synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        buckets.get((int) (tick & mask)).remove(key);
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time and returns every key whose deadline has passed.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<K> expired = new ArrayList<>();
+        if (targetTick <= currentTick) {
+            return expired;
+        }
+        // After a long pause every bucket is due for a visit; never scan one twice
+        long ticks = Math.min(targetTick - currentTick, (long) mask + 1);
+        for (long i = 1; i <= ticks; i++) {
+            Map<K, Long> bucket = buckets.get((int) ((currentTick + i) & mask));
+            Iterator<Map.Entry<K, Long>> it = bucket.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Long> entry = it.next();
+                if (entry.getValue() <= targetTick) {
+                    it.remove();
+                    deadlineTicks.remove(entry.getKey());
+                    expired.add(entry.getKey());
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized boolean contains(K key) {
+        return deadlineTicks.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.venue.management.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks which accounts were changed by an administrator after their sessions
+ * were authenticated. Each principal records the generation at which it was loaded;
+ * a change to the account bumps the generation, and any principal loaded before
+ * the change is revalidated on its next request by {@link PrincipalRevalidationFilter}.
+ *
+ * A change is remembered for one session timeout: by then every session loaded before
+ * it has either made a request, and was revalidated, or expired. Changes are kept in
+ * this JVM only, so on several nodes the others keep serving the old principal until
+ * its session ends; the application is meant to run as a single node.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class AccountChangeTracker {
+
+    @Value("${server.servlet.session.timeout:30m}")
+    private Duration sessionTimeout = Duration.ofMinutes(30);
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+
+    private record Change(long generation, long changedAt) {
+    }
+
+    /**
+     * Returns the current generation; read it before loading an account.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Records that an account was approved, rejected, disabled or otherwise changed.
+     * Inside a transaction the change is recorded after commit, so a revalidation
+     * cannot reload the account before the change is visible.
+     *
+     * @param userId The changed user's ID
+     */
+    public void accountChanged(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId);
+                }
+            });
+        } else {
+            record(userId);
+        }
+    }
+
+    /**
+     * Checks whether the account was changed after the principal was loaded.
+     */
+    public boolean isStale(UserPrincipal principal) {
+        Change change = changes.get(principal.getUserId());
+        return change != null && change.generation() > principal.getGeneration();
+    }
+
+    /**
+     * Forgets changes older than the session timeout.
+     */
+    @Scheduled(fixedDelayString = "${security.account-changes.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - sessionTimeout.toMillis();
+        changes.values().removeIf(change -> change.changedAt() < cutoff);
+    }
+
+    private void record(Long userId) {
+        changes.put(userId, new Change(generation.incrementAndGet(), System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.venue.management.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a controller parameter of type {@link com.venue.management.entity.User} to the
+ * authenticated user, built from the session principal without a database query.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
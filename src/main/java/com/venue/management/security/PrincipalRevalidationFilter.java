@@ -0,0 +1,86 @@
+package com.venue.management.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Reloads the session principal when an administrator has changed the account since login.
+ * An account that is still enabled gets a fresh principal (and authorities) in its session;
+ * a disabled or deleted account is logged out.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class PrincipalRevalidationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalRevalidationFilter.class);
+
+    private final AccountChangeTracker changeTracker;
+    private final UserDetailsService userDetailsService;
+    private final SecurityContextRepository contextRepository = new HttpSessionSecurityContextRepository();
+
+    public PrincipalRevalidationFilter(AccountChangeTracker changeTracker, UserDetailsService userDetailsService) {
+        this.changeTracker = changeTracker;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)
+                || !changeTracker.isStale(principal)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        logger.info("Account of user '{}' changed since login, revalidating session", principal.getUsername());
+        UserDetails reloaded;
+        try {
+            reloaded = userDetailsService.loadUserByUsername(principal.getUsername());
+        } catch (UsernameNotFoundException e) {
+            reloaded = null;
+        }
+
+        if (reloaded == null || !reloaded.isEnabled()) {
+            logger.warn("User '{}' is no longer enabled, ending session", principal.getUsername());
+            SecurityContextHolder.clearContext();
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            response.sendRedirect(request.getContextPath() + "/login?disabled");
+            return;
+        }
+
+        if (reloaded instanceof CredentialsContainer credentials) {
+            credentials.eraseCredentials();
+        }
+        UsernamePasswordAuthenticationToken refreshed = UsernamePasswordAuthenticationToken.authenticated(
+            reloaded, null, reloaded.getAuthorities());
+        refreshed.setDetails(authentication.getDetails());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(refreshed);
+        SecurityContextHolder.setContext(context);
+        contextRepository.saveContext(context, request, response);
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,58 @@
+package com.venue.management.security;
+
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * Authenticated principal that carries the user's ID and role next to the usual
+ * Spring Security details, so controllers can identify the user without a query.
+ * The generation records when the account was loaded; see {@link AccountChangeTracker}.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+    private final Role role;
+    private final long generation;
+
+    public UserPrincipal(User user, long generation) {
+        super(user.getUsername(),
+                user.getPassword(),
+                user.isEnabled(), // enabled
+                true, // accountNonExpired
+                true, // credentialsNonExpired
+                true, // accountNonLocked
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.userId = user.getUserId();
+        this.role = user.getRole();
+        this.generation = generation;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns a detached user reference with ID, username, role and enabled flag.
+     * It is enough to filter by owner or to set as a foreign key, but the password
+     * and email are not loaded.
+     */
+    public User toUser() {
+        return new User(userId, getUsername(), null, null, role, isEnabled());
+    }
+}
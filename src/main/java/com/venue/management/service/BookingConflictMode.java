@@ -0,0 +1,26 @@
+package com.venue.management.service;
+
+/**
+ * Strategy used by the booking service to detect date range conflicts.
+ * Selected with the {@code booking.conflict-check.mode} property.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum BookingConflictMode {
+    /** Check against the in-memory per-venue interval index. */
+    INDEX,
+    /** Lock the venue row and run an indexed exists query in the database. */
+    DATABASE,
+    /**
+     * Route each booking to its venue's single-writer lane in the booking sequencer,
+     * which checks the in-memory index and commits accepted bookings in batches.
+     * The lanes live in one JVM, so this mode is only safe on a single node.
+     */
+    SEQUENCED,
+    /**
+     * Hold one row per booked day in {@code venue_day_slots}; its primary key rejects
+     * overlapping bookings atomically, across all application nodes.
+     */
+    SLOTS
+}
@@ -1,12 +1,18 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.User;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.BookingRow;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Service interface for Booking operations.
@@ -17,14 +23,21 @@ import org.springframework.data.domain.Pageable;
  */
 public interface BookingService {
     // Updated to support paging, status filtering, and search
-    Page<Booking> getAllBookings(String status, String search, Pageable pageable);
-    Page<Booking> getCustomerBookings(User user, String status, String search, Pageable pageable);
+    Page<BookingRow> getAllBookings(ListFilter filter, Pageable pageable);
+    Page<BookingRow> getCustomerBookings(User user, ListFilter filter, Pageable pageable);
+    
+    // Keyset (cursor) pagination; no OFFSET or COUNT(*)
+    CursorPage<BookingRow> scrollAllBookings(ListFilter filter, Sort.Order order, String cursor, int size);
+    CursorPage<BookingRow> scrollCustomerBookings(User user, ListFilter filter, Sort.Order order, String cursor, int size);
     
     List<Booking> getTotalBookings();
     
     // Original methods remain for internal logic
     Booking createBooking(Booking booking);
-    Booking updateStatus(Long id, String status);
+    Booking createBooking(Booking booking, String idempotencyKey);
+    // Completes once the booking is committed; queued on the venue's lane in SEQUENCED mode
+    CompletableFuture<Booking> submitBooking(Booking booking, String idempotencyKey);
+    Booking updateStatus(Long id, BookingStatus status);
     Booking getBookingById(Long id);
     Long getBookingsCount();
 }
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.venue.management.service;
 
 import com.venue.management.entity.Payment;
 import com.venue.management.entity.User;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.PaymentRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Service interface for Payment operations.
@@ -14,9 +18,12 @@ import org.springframework.data.domain.Pageable;
  */
 
 public interface PaymentService {
-    Page<Payment> getAllPayments(String status, String search, Pageable pageable);
-    Page<Payment> getUserPayments(User user, String status, String search, Pageable pageable);
+    Page<PaymentRow> getAllPayments(ListFilter filter, Pageable pageable);
+    Page<PaymentRow> getUserPayments(User user, ListFilter filter, Pageable pageable);
+    CursorPage<PaymentRow> scrollAllPayments(ListFilter filter, Sort.Order order, String cursor, int size);
+    CursorPage<PaymentRow> scrollUserPayments(User user, ListFilter filter, Sort.Order order, String cursor, int size);
     Payment processPayment(Payment payment);
+    Payment processPayment(Payment payment, String idempotencyKey);
     void refundPayment(Long bookingId);
     double getTotalEarnings();
     long getSuccessfulPaymentsCount();
@@ -2,9 +2,13 @@ package com.venue.management.service;
 
 import com.venue.management.entity.SupportTicket;
 import com.venue.management.entity.User;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.query.ListFilter;
+import com.venue.management.repository.projection.TicketRow;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Service interface for SupportTicket operations.
@@ -16,10 +20,13 @@ import org.springframework.data.domain.Pageable;
 public interface SupportTicketService {
     List<SupportTicket> getAllTickets();
     List<SupportTicket> getCustomerTickets(User user);
-    Page<SupportTicket> getAllTickets(String status, String search, Pageable pageable);
-    Page<SupportTicket> getCustomerTickets(User user, String status, String search, Pageable pageable);
+    Page<TicketRow> getAllTickets(ListFilter filter, Pageable pageable);
+    Page<TicketRow> getCustomerTickets(User user, ListFilter filter, Pageable pageable);
+    CursorPage<TicketRow> scrollAllTickets(ListFilter filter, Sort.Order order, String cursor, int size);
+    CursorPage<TicketRow> scrollCustomerTickets(User user, ListFilter filter, Sort.Order order, String cursor, int size);
     SupportTicket createTicket(SupportTicket ticket);
     SupportTicket getTicketById(Long id);
     SupportTicket resolveTicket(Long id, String resolutionNotes);
     long countOpenTickets();
+    void rebuildSearchIndex();
 }
@@ -1,7 +1,10 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.User;
+import java.util.Collection;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Service interface for User Management.
@@ -9,4 +12,8 @@ import java.util.Optional;
 public interface UserService {
     User registerUser(User user);
     Optional<User> findByUsername(String username);
+    Page<User> getManagers(boolean enabled, Pageable pageable);
+    long countManagers(boolean enabled);
+    int approveManagers(Collection<Long> userIds);
+    int rejectManagers(Collection<Long> userIds);
 }
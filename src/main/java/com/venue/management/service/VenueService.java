@@ -1,10 +1,17 @@
 package com.venue.management.service;
 
+import com.venue.management.cache.CacheStats;
 import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.service.image.ImageVariant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Service interface for Venue operations.
@@ -16,8 +23,17 @@ import org.springframework.data.domain.Pageable;
 public interface VenueService {
     List<Venue> getAllVenues();
     Page<Venue> getAllVenues(String search, Pageable pageable);
+    CursorPage<Venue> scrollVenues(String search, Sort.Order order, String cursor, int size);
     Optional<Venue> getVenueById(Long id);
     Venue saveVenue(Venue venue);
+    Venue updateVenueStatus(Long id, VenueStatus status);
     void deleteVenue(Long id);
     List<Venue> getAvailableVenues();
+    long countVenues();
+    List<Venue> getVenuesMissingImageVariants();
+    boolean recordImageVariants(Long venueId, String imagePath, Map<ImageVariant, String> variantPaths);
+    List<Venue> getVenuesWithLegacyImages();
+    boolean replaceImage(Long venueId, String oldImage, String newImage);
+    Map<String, CacheStats> getCacheStats();
+    Page<Venue> searchAvailableVenues(LocalDate from, LocalDate to, Integer minCapacity, Double maxPrice, Pageable pageable);
 }
@@ -0,0 +1,271 @@
+package com.venue.management.service.booking;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.event.BookingCreated;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.scheduler.BookingCompletionScheduler;
+import com.venue.management.scheduler.BookingHoldScheduler;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.stats.DashboardCounters;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Creates bookings on per-venue single-writer lanes.
+ *
+ * Each venue is hashed onto one of a fixed number of lane threads, so all bookings of a
+ * venue are decided by one thread in arrival order. A lane takes whatever requests have
+ * queued up, checks each against the {@link VenueBookingIndex} and the bookings accepted
+ * earlier in the same batch, and inserts the accepted ones in a single transaction. Only
+ * after the commit are they added to the index and their futures completed. No row locks
+ * are taken, and under load one commit covers many bookings.
+ *
+ * If the batch transaction fails its bookings are committed one by one, so a single bad
+ * request fails alone.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class BookingSequencer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSequencer.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private VenueBookingIndex bookingIndex;
+
+    @Autowired
+    private BookingCompletionScheduler completionScheduler;
+
+    @Autowired
+    private BookingHoldScheduler holdScheduler;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${booking.sequencer.lanes:4}")
+    private int laneCount;
+
+    @Value("${booking.sequencer.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${booking.sequencer.batch-size:64}")
+    private int batchSize;
+
+    private volatile boolean running;
+    private Lane[] lanes;
+
+    /**
+     * A booking waiting on a lane.
+     *
+     * @param booking The booking to create
+     * @param inTransaction Work to do in the transaction that inserts the booking
+     * @param result Completed with the created booking after commit
+     */
+    private record Request(Booking booking, Consumer<Booking> inTransaction, CompletableFuture<Booking> result) {
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+            lanes[i].thread.start();
+        }
+        logger.info("Booking sequencer started with {} lanes", laneCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.thread.interrupt();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+            List<Request> abandoned = new ArrayList<>();
+            lane.queue.drainTo(abandoned);
+            abandoned.forEach(request -> request.result().completeExceptionally(
+                new RuntimeException("The booking service is shutting down, please try again.")));
+        }
+    }
+
+    /**
+     * Queues a booking on its venue's lane.
+     *
+     * @param booking The booking to create; its venue and user must be set
+     * @param inTransaction Work to do in the transaction that inserts the booking, e.g. recording
+     *                      an idempotency token; a failure rolls the booking back
+     * @return Completed with the created booking once committed, or failed with a RuntimeException
+     *         if the venue is already booked for the date range or the lane is full
+     */
+    public CompletableFuture<Booking> submit(Booking booking, Consumer<Booking> inTransaction) {
+        Request request = new Request(booking, inTransaction, new CompletableFuture<>());
+        Long venueId = booking.getVenue().getVenueId();
+        Lane lane = lanes[Math.floorMod(venueId.hashCode(), lanes.length)];
+        if (!running || !lane.queue.offer(request)) {
+            logger.warn("Booking lane {} is full, rejecting booking for venue {}", lane.index, venueId);
+            request.result().completeExceptionally(
+                new RuntimeException("Too many booking requests right now, please try again."));
+        }
+        return request.result();
+    }
+
+    private class Lane {
+
+        private final int index;
+        private final BlockingQueue<Request> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+
+        Lane(int index) {
+            this.index = index;
+            this.thread = new Thread(this::run, "booking-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void run() {
+            List<Request> batch = new ArrayList<>(batchSize);
+            while (running) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                queue.drainTo(batch, batchSize - 1);
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    logger.error("Error in booking lane {}: {}", index, e.getMessage(), e);
+                    batch.forEach(request -> request.result().completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Decides a batch of requests in arrival order and commits the accepted ones.
+     */
+    private void process(List<Request> batch) {
+        List<Request> accepted = new ArrayList<>(batch.size());
+        for (Request request : batch) {
+            if (conflicts(request.booking(), accepted)) {
+                Booking booking = request.booking();
+                logger.warn("Booking conflict detected for venue: {} on dates {} to {}",
+                    booking.getVenue().getVenueName(), booking.getEventDate(), booking.getEndDate());
+                request.result().completeExceptionally(
+                    new RuntimeException("Venue is already booked for the selected date range."));
+            } else {
+                accepted.add(request);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            commit(accepted);
+        } catch (RuntimeException e) {
+            if (accepted.size() == 1) {
+                reset(accepted.get(0));
+                accepted.get(0).result().completeExceptionally(e);
+                return;
+            }
+            logger.warn("Batch of {} bookings failed ({}), committing them one by one", accepted.size(), e.getMessage());
+            for (Request request : accepted) {
+                reset(request);
+                try {
+                    commit(List.of(request));
+                } catch (RuntimeException single) {
+                    reset(request);
+                    request.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks a booking against the committed bookings and those accepted earlier in the batch.
+     * The index is current for this venue, as only this lane adds bookings to it.
+     */
+    private boolean conflicts(Booking booking, List<Request> accepted) {
+        Long venueId = booking.getVenue().getVenueId();
+        LocalDate from = booking.getEventDate();
+        LocalDate to = endDate(booking);
+        if (bookingIndex.hasOverlap(venueId, from, to)) {
+            return true;
+        }
+        for (Request request : accepted) {
+            Booking other = request.booking();
+            if (other.getVenue().getVenueId().equals(venueId)
+                    && !other.getEventDate().isAfter(to) && !endDate(other).isBefore(from)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void commit(List<Request> requests) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (Request request : requests) {
+                Booking booking = request.booking();
+                holdScheduler.hold(booking);
+                bookingRepository.save(booking);
+                request.inTransaction().accept(booking);
+                counters.bookingCreated(BookingStatus.HELD);
+                eventPublisher.publish(new BookingCreated(booking.getBookingId(),
+                    booking.getVenue().getVenueId(), booking.getUser().getUserId()));
+            }
+        });
+        for (Request request : requests) {
+            Booking booking = request.booking();
+            bookingIndex.add(booking);
+            completionScheduler.track(booking);
+            holdScheduler.track(booking);
+            logger.info("Booking created successfully with ID: {}", booking.getBookingId());
+            request.result().complete(booking);
+        }
+    }
+
+    /**
+     * Clears the ID and version assigned by an insert that was rolled back, so the
+     * booking is inserted again rather than merged.
+     */
+    private static void reset(Request request) {
+        request.booking().setBookingId(null);
+        request.booking().setVersion(null);
+    }
+
+    private static LocalDate endDate(Booking booking) {
+        return booking.getEndDate() != null ? booking.getEndDate() : booking.getEventDate();
+    }
+}
@@ -0,0 +1,254 @@
+package com.venue.management.service.idempotency;
+
+import com.venue.management.entity.IdempotencyKey;
+import com.venue.management.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Executes a request at most once per idempotency token.
+ *
+ * Forms carry a token generated when they are rendered. The first request with a token
+ * claims it and runs; a repeat (double click, browser retry) gets the original result
+ * instead of creating another booking or payment. Repeats arriving while the first request
+ * is still running wait for it on a per-token future, so there is no global lock.
+ *
+ * Recent tokens are kept in memory for a short time. The claim itself is a row in
+ * {@code idempotency_keys}, inserted in the same transaction as the work, so repeats
+ * that reach another instance, or arrive after the memory entry expired, are caught by
+ * the primary key and answered from the recorded result.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    // UUIDs, as generated for the forms, fit this with room to spare
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    // How long a repeat waits for the original request to finish
+    private static final long AWAIT_SECONDS = 30;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${idempotency.memory-ttl-ms:600000}")
+    private long memoryTtlMs;
+
+    @Value("${idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    private final Map<String, Execution> recent = new ConcurrentHashMap<>();
+
+    private record Execution(CompletableFuture<Long> resultId, long startedAt) {
+    }
+
+    // Thrown when the token's row already exists; rolls back the transaction it is raised in
+    private static final class TokenClaimedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private TokenClaimedException(String key) {
+            super("Token already claimed: " + key);
+        }
+    }
+
+    /**
+     * Runs the action once per token. Without a token the action simply runs, still in a
+     * transaction of its own.
+     *
+     * @param scope Kind of request, e.g. "payment"; tokens are unique per scope
+     * @param token Token submitted with the request, may be null
+     * @param action Creates the record; joins the transaction opened here
+     * @param idOf Extracts the created record's ID
+     * @param loader Loads the record created by the original request
+     * @return The created record, or the one created by the original request
+     * @throws RuntimeException if the action fails, or the original request is still running
+     */
+    public <T> T execute(String scope, String token, Supplier<T> action,
+                         Function<T, Long> idOf, Function<Long, T> loader) {
+        if (token == null || token.isBlank()) {
+            // Callers reach the action through this, not through their transactional proxy
+            return new TransactionTemplate(transactionManager).execute(status -> action.get());
+        }
+        String key = scope + ":" + validate(token);
+
+        Execution mine = new Execution(new CompletableFuture<>(), System.currentTimeMillis());
+        Execution earlier = recent.putIfAbsent(key, mine);
+        if (earlier != null) {
+            logger.info("Repeated request {}, returning the original result", key);
+            return loader.apply(await(earlier));
+        }
+
+        try {
+            T result = new TransactionTemplate(transactionManager).execute(status -> {
+                claim(key);
+                T created = action.get();
+                idempotencyKeyRepository.recordResult(key, idOf.apply(created));
+                return created;
+            });
+            mine.resultId().complete(idOf.apply(result));
+            return result;
+        } catch (TokenClaimedException e) {
+            return loader.apply(recorded(key, mine));
+        } catch (RuntimeException e) {
+            // Nothing was recorded, so a retry with the same token runs again
+            fail(key, mine, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the action once per token, for actions that commit their work on another thread.
+     * Instead of opening a transaction, the action is given a recorder that claims the token
+     * and records the result; it must call it in the transaction that creates the record.
+     *
+     * @param scope Kind of request, e.g. "booking"; tokens are unique per scope
+     * @param token Token submitted with the request, may be null
+     * @param action Starts creating the record, given the recorder
+     * @param idOf Extracts the created record's ID
+     * @param loader Loads the record created by the original request
+     * @return Completed with the created record, or the one created by the original request
+     */
+    public <T> CompletableFuture<T> executeAsync(String scope, String token,
+                                                 Function<Consumer<T>, CompletableFuture<T>> action,
+                                                 Function<T, Long> idOf, Function<Long, T> loader) {
+        if (token == null || token.isBlank()) {
+            return action.apply(created -> { });
+        }
+        String key;
+        try {
+            key = scope + ":" + validate(token);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Execution mine = new Execution(new CompletableFuture<>(), System.currentTimeMillis());
+        Execution earlier = recent.putIfAbsent(key, mine);
+        if (earlier != null) {
+            logger.info("Repeated request {}, returning the original result", key);
+            return earlier.resultId().thenApply(loader);
+        }
+
+        Consumer<T> recorder = created -> {
+            claim(key);
+            idempotencyKeyRepository.recordResult(key, idOf.apply(created));
+        };
+        CompletableFuture<T> started;
+        try {
+            started = action.apply(recorder);
+        } catch (RuntimeException e) {
+            fail(key, mine, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return started.handle((created, error) -> {
+            if (error == null) {
+                mine.resultId().complete(idOf.apply(created));
+                return created;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof TokenClaimedException) {
+                return loader.apply(recorded(key, mine));
+            }
+            RuntimeException failure = cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+            fail(key, mine, failure);
+            throw failure;
+        });
+    }
+
+    /**
+     * Drops expired tokens from memory, and from the database after the retention period.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - memoryTtlMs;
+        recent.entrySet().removeIf(entry -> entry.getValue().startedAt() < cutoff
+            && entry.getValue().resultId().isDone());
+
+        int purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            logger.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /**
+     * Inserts the token's row. Only a failure of this insert means the token was used before;
+     * constraint violations raised by the action itself are ordinary failures.
+     */
+    private void claim(String key) {
+        try {
+            idempotencyKeyRepository.claim(key, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new TokenClaimedException(key);
+        }
+    }
+
+    private Long await(Execution earlier) {
+        try {
+            return earlier.resultId().get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("This request is still being processed.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the original request.");
+        }
+    }
+
+    /**
+     * Reads the result recorded for a token claimed by another instance, or by a request
+     * whose memory entry has expired.
+     */
+    private Long recorded(String key, Execution mine) {
+        Long resultId = idempotencyKeyRepository.findById(key).map(IdempotencyKey::getResultId).orElse(null);
+        if (resultId == null) {
+            RuntimeException pending = new RuntimeException("This request is already being processed.");
+            fail(key, mine, pending);
+            throw pending;
+        }
+        logger.info("Repeated request {}, returning the recorded result", key);
+        mine.resultId().complete(resultId);
+        return resultId;
+    }
+
+    private void fail(String key, Execution mine, RuntimeException cause) {
+        recent.remove(key, mine);
+        mine.resultId().completeExceptionally(cause);
+    }
+
+    private static String validate(String token) {
+        if (!TOKEN_FORMAT.matcher(token).matches()) {
+            throw new RuntimeException("Invalid request token.");
+        }
+        return token;
+    }
+}
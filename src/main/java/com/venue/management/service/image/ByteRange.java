@@ -0,0 +1,79 @@
+package com.venue.management.service.image;
+
+/**
+ * A single HTTP byte range ({@code Range: bytes=start-end}), resolved against the
+ * length of the content it applies to. Both ends are inclusive.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * A syntactically valid range that lies outside the content (416 response).
+     */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * Resolves a Range header against the content length.
+     * Multiple ranges and malformed headers are ignored, as the HTTP spec allows,
+     * so the whole content is sent instead.
+     *
+     * @param header Range header value, may be null
+     * @param length Content length in bytes
+     * @return The range to send, {@link #UNSATISFIABLE}, or null to send the whole content
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // Suffix range: the last n bytes
+                long suffix = parseLength(last);
+                if (suffix == 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+            long start = parseLength(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : parseLength(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    /**
+     * Number of bytes in the range.
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    private static long parseLength(String value) {
+        if (value.isEmpty() || !value.chars().allMatch(Character::isDigit)) {
+            throw new NumberFormatException(value);
+        }
+        return Long.parseLong(value);
+    }
+}
@@ -0,0 +1,146 @@
+package com.venue.management.service.image;
+
+import com.venue.management.entity.Venue;
+import com.venue.management.service.VenueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Generates the resized copies (thumbnail, card, hero) of venue images on the bounded
+ * image executor, stores them in the {@link ImageStore} and records their hashes on the
+ * venue. Until the copies are recorded the templates fall back to the original image.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    @Autowired
+    @Qualifier("imageExecutor")
+    private ThreadPoolTaskExecutor imageExecutor;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    // Where images were uploaded before the image store existed
+    @Value("${images.legacy-dir:src/main/resources/static/images}")
+    private String legacyDir;
+
+    /**
+     * Queues generation of the resized copies of a venue's image and returns immediately.
+     * If the queue is full the work is dropped; the startup backfill picks it up later.
+     *
+     * @param venueId The venue ID
+     * @param imageHash The venue's image hash
+     */
+    public void generateAsync(Long venueId, String imageHash) {
+        try {
+            imageExecutor.execute(() -> generate(venueId, imageHash));
+        } catch (TaskRejectedException e) {
+            logger.warn("Image queue full, variants of venue {} will be generated at next startup", venueId);
+        }
+    }
+
+    /**
+     * Moves images uploaded before the image store existed into it, then queues every
+     * venue whose image has no resized copies yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        importLegacyImages();
+        List<Venue> venues = venueService.getVenuesMissingImageVariants();
+        if (!venues.isEmpty()) {
+            logger.info("Generating image variants for {} venues", venues.size());
+        }
+        venues.forEach(venue -> generateAsync(venue.getVenueId(), venue.getImagePath()));
+    }
+
+    /**
+     * Generates and records the resized copies of one image.
+     */
+    void generate(Long venueId, String imageHash) {
+        Optional<Resource> source = imageStore.load(imageHash);
+        if (source.isEmpty()) {
+            logger.warn("Image {} of venue {} not found, skipping variants", imageHash, venueId);
+            return;
+        }
+        try {
+            BufferedImage original;
+            try (InputStream in = source.get().getInputStream()) {
+                original = ImageResizer.read(in, ImageVariant.HERO.getWidth());
+            }
+
+            Map<ImageVariant, String> hashes = new EnumMap<>(ImageVariant.class);
+            // Largest first, so each smaller copy is scaled from the previous one
+            BufferedImage current = original;
+            for (ImageVariant variant : List.of(ImageVariant.HERO, ImageVariant.CARD, ImageVariant.THUMBNAIL)) {
+                current = ImageResizer.resize(current, variant.getWidth());
+                // A resized copy is at most a few hundred KB, so it is encoded in memory
+                ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+                ImageResizer.writeJpeg(current, encoded, JPEG_QUALITY);
+                hashes.put(variant, imageStore.store(new ByteArrayInputStream(encoded.toByteArray())));
+            }
+
+            if (venueService.recordImageVariants(venueId, imageHash, hashes)) {
+                logger.info("Generated image variants for venue {}", venueId);
+            } else {
+                logger.debug("Image of venue {} changed while generating variants, discarded", venueId);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Error generating image variants for venue {}: {}", venueId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves venue images still referenced by their old "/images/..." path into the store.
+     * Their resized copies are dropped and regenerated from the stored original.
+     */
+    void importLegacyImages() {
+        Path dir = Paths.get(legacyDir).toAbsolutePath().normalize();
+        for (Venue venue : venueService.getVenuesWithLegacyImages()) {
+            String oldPath = venue.getImagePath();
+            Path file = dir.resolve(oldPath.substring(oldPath.lastIndexOf('/') + 1)).normalize();
+            if (!file.startsWith(dir) || !Files.isRegularFile(file)) {
+                logger.warn("Image {} of venue {} not found, cannot import it", oldPath, venue.getVenueId());
+                continue;
+            }
+            try {
+                String hash = imageStore.store(Files.newInputStream(file));
+                venueService.replaceImage(venue.getVenueId(), oldPath, hash);
+                logger.info("Imported image {} of venue {} as {}", oldPath, venue.getVenueId(), hash);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Error importing image {} of venue {}: {}", oldPath, venue.getVenueId(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.venue.management.service.image;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for venue images. Each image is stored once under the
+ * SHA-256 of its bytes, so uploading the same photo again reuses the stored copy,
+ * and the hash never refers to different content.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface ImageStore {
+
+    /**
+     * Stores an image, reading the stream once without buffering it in memory.
+     *
+     * @param content Image bytes; closed when done
+     * @return Lowercase hex SHA-256 of the content, used as the image key
+     * @throws IOException if the content cannot be stored
+     */
+    String store(InputStream content) throws IOException;
+
+    /**
+     * Looks up a stored image.
+     *
+     * @param hash Key returned by {@link #store}
+     * @return The stored image, or empty if the key is unknown or malformed
+     */
+    Optional<Resource> load(String hash);
+
+    /**
+     * Checks whether a value has the form of an image key.
+     */
+    static boolean isHash(String value) {
+        return value != null && value.matches("[0-9a-f]{64}");
+    }
+}
@@ -0,0 +1,30 @@
+package com.venue.management.service.image;
+
+/**
+ * Resized copies generated for every venue image, by target width in pixels.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 160),
+    CARD("card", 480),
+    HERO("hero", 1280);
+
+    private final String suffix;
+    private final int width;
+
+    ImageVariant(String suffix, int width) {
+        this.suffix = suffix;
+        this.width = width;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
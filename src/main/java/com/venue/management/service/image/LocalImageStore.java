@@ -0,0 +1,99 @@
+package com.venue.management.service.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Image store on the local filesystem, outside the application classpath.
+ * Images are kept as {@code <store-dir>/<first two hash chars>/<hash>}, which keeps
+ * directories small. Uploads are hashed while they are copied to a temporary file in
+ * the store, then moved into place; a duplicate upload only deletes its temporary file.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class LocalImageStore implements ImageStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalImageStore.class);
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalImageStore(@Value("${images.store-dir:data/images}") String storeDir) {
+        this.root = Paths.get(storeDir).toAbsolutePath().normalize();
+        // Same filesystem as the images, so the final move is an atomic rename
+        this.tempDir = root.resolve("tmp");
+    }
+
+    @Override
+    public String store(InputStream content) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path target = pathOf(hash);
+            if (Files.exists(target)) {
+                logger.debug("Image {} already stored, reusing it", hash);
+                return hash;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same content stored concurrently; either copy is the image
+                logger.debug("Image {} stored concurrently, reusing it", hash);
+            }
+            logger.info("Stored image {}", hash);
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<Resource> load(String hash) {
+        if (!ImageStore.isHash(hash)) {
+            return Optional.empty();
+        }
+        Path file = pathOf(hash);
+        return Files.isRegularFile(file) ? Optional.of(new FileSystemResource(file)) : Optional.empty();
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,20 +1,61 @@
 package com.venue.management.service.impl;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.pagination.KeysetPaginator;
+import com.venue.management.query.ListFields;
+import com.venue.management.query.ListFilter;
+import com.venue.management.query.ListQueryEngine;
+import com.venue.management.query.ListSpecifications;
+import com.venue.management.query.RowMapping;
+import com.venue.management.query.SortWhitelist;
+import com.venue.management.event.BookingCancelled;
+import com.venue.management.event.BookingCreated;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.exception.ConcurrentUpdateException;
+import com.venue.management.exception.IllegalStatusTransitionException;
 import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueDaySlotRepository;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.repository.projection.BookingInterval;
+import com.venue.management.repository.projection.BookingRow;
+import com.venue.management.scheduler.BookingCompletionScheduler;
+import com.venue.management.scheduler.BookingHoldScheduler;
+import com.venue.management.service.BookingConflictMode;
 import com.venue.management.service.BookingService;
-import com.venue.management.service.PaymentService;
+import com.venue.management.service.booking.BookingSequencer;
+import com.venue.management.service.idempotency.IdempotencyService;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.criteria.Join;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Service implementation for Booking operations.
@@ -28,109 +69,167 @@ public class BookingServiceImpl implements BookingService {
 
 	private static final Logger logger = LoggerFactory.getLogger(BookingServiceImpl.class);
 
+	// Filterable columns of the booking list; the owner is the booking's user
+	private static final ListFields BOOKING_FIELDS = new ListFields("status",
+		List.of("venue.venueName", "user.username", "status"), "eventDate", "endDate", "user.userId");
+
+	// Sortable columns, each backed by an index
+	private static final SortWhitelist BOOKING_SORTS = new SortWhitelist(Map.of(
+		"bookingId", "bookingId",
+		"eventDate", "eventDate",
+		"endDate", "endDate",
+		"status", "status"), "bookingId");
+
+	private static final RowMapping<Booking, BookingRow> BOOKING_ROW = (root, cb) -> {
+		Join<Booking, Venue> venue = root.join("venue");
+		Join<Booking, User> user = root.join("user");
+		return cb.construct(BookingRow.class, root.get("bookingId"), venue.get("venueName"), user.get("username"),
+			root.get("eventDate"), root.get("endDate"), root.get("eventType"), root.get("status"));
+	};
+
 	@Autowired
 	private BookingRepository bookingRepository;
 
 	@Autowired
-	private PaymentService paymentService;
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private VenueBookingIndex bookingIndex;
+
+	@Autowired
+	private BookingCompletionScheduler completionScheduler;
+
+	@Autowired
+	private KeysetPaginator keysetPaginator;
+
+	@Autowired
+	private ListQueryEngine queryEngine;
+
+	@Autowired
+	private DashboardCounters counters;
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private EventPublisher eventPublisher;
+
+	@Autowired
+	private BookingSequencer bookingSequencer;
+
+	@Autowired
+	private BookingHoldScheduler holdScheduler;
+
+	@Autowired
+	private VenueDaySlotRepository daySlotRepository;
+
+	@Autowired
+	private OptimisticRetry optimisticRetry;
+
+	@Value("${booking.conflict-check.mode:INDEX}")
+	private BookingConflictMode conflictCheckMode;
 
 	/**
-	 * Retrieves all bookings with optional status filter and search.
+	 * Retrieves all bookings with optional status, search and date-range filters.
+	 * All filters are applied in the same SQL statement, so the page size and total are exact.
 	 * 
-	 * @param status Optional status filter (e.g., "PENDING", "CONFIRMED", "CANCELLED", "COMPLETED")
-	 * @param search Optional search term to search in venue name, username, or status
+	 * @param filter Status (e.g., "PENDING", "CONFIRMED"), search term (venue name, username or status) and date range
 	 * @param pageable Pagination and sorting parameters
-	 * @return Page of bookings matching the criteria
+	 * @return Page of booking rows matching the criteria
 	 */
 	@Override
-	public Page<Booking> getAllBookings(String status, String search, Pageable pageable) {
-		logger.debug("Getting all bookings with status: {}, search: {}", status, search);
-		
-		// If search is provided, search across multiple fields
-		if (search != null && !search.trim().isEmpty()) {
-			if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-				Page<Booking> searchResults = bookingRepository.findByVenue_VenueNameContainingIgnoreCaseOrUser_UsernameContainingIgnoreCaseOrStatusContainingIgnoreCase(
-					search, search, search, pageable); // venueName,userName and Status.
-				logger.info("Found {} bookings matching search '{}' and status '{}'", 
-					searchResults.getTotalElements(), search, status);
-				// Filter results to match the status
-				List<Booking> filteredResults = searchResults.getContent().stream()
-					.filter(b -> status.equalsIgnoreCase(b.getStatus()))
-					.collect(java.util.stream.Collectors.toList());
-				return new org.springframework.data.domain.PageImpl<>(filteredResults, pageable, searchResults.getTotalElements());
-			}
-			Page<Booking> results = bookingRepository.findByVenue_VenueNameContainingIgnoreCaseOrUser_UsernameContainingIgnoreCaseOrStatusContainingIgnoreCase(
-				search, search, search, pageable);
-			logger.info("Found {} bookings matching search '{}'", results.getTotalElements(), search);
-			return results;
-		}
-		
-		// Apply status filter if provided
-		if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-			Page<Booking> results = bookingRepository.findByStatus(status, pageable);
-			logger.info("Found {} bookings with status '{}'", results.getTotalElements(), status);
-			return results;
-		}
-		
-		Page<Booking> results = bookingRepository.findAll(pageable);
-		logger.info("Found {} total bookings", results.getTotalElements());
+	public Page<BookingRow> getAllBookings(ListFilter filter, Pageable pageable) {
+		logger.debug("Getting all bookings with {}", filter);
+		Page<BookingRow> results = queryEngine.findRows(Booking.class, BookingRow.class, BOOKING_ROW,
+			ListSpecifications.of(BOOKING_FIELDS, filter, null), BOOKING_SORTS.apply(pageable));
+		logger.info("Found {} bookings", results.getTotalElements());
 		return results;
 	}
 
 	/**
-	 * Retrieves bookings for a specific customer with optional status filter and search.
+	 * Retrieves bookings for a specific customer with optional status, search and date-range filters.
 	 * 
 	 * @param user The customer user
-	 * @param status Optional status filter
-	 * @param search Optional search term
+	 * @param filter Status, search term and date range
 	 * @param pageable Pagination and sorting parameters
-	 * @return Page of customer bookings matching the criteria
+	 * @return Page of customer booking rows matching the criteria
 	 */
 	@Override
-	public Page<Booking> getCustomerBookings(User user, String status, String search, Pageable pageable) {
-		logger.debug("Getting bookings for user: {} with status: {}, search: {}", 
-			user.getUsername(), status, search);
-		
-		// If search is provided, filter by user first then search
-		if (search != null && !search.trim().isEmpty()) {
-			Page<Booking> searchResults = bookingRepository.findByUser(user, pageable);
-			logger.info("Found {} bookings for user '{}' matching search '{}'", 
-				searchResults.getTotalElements(), user.getUsername(), search);
-			return searchResults;
-		}
-		
-		// Apply status filter if provided
-		if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-			Page<Booking> results = bookingRepository.findByUserAndStatus(user, status, pageable);
-			logger.info("Found {} bookings for user '{}' with status '{}'", 
-				results.getTotalElements(), user.getUsername(), status);
-			return results;
-		}
-		
-		Page<Booking> results = bookingRepository.findByUser(user, pageable);
+	public Page<BookingRow> getCustomerBookings(User user, ListFilter filter, Pageable pageable) {
+		logger.debug("Getting bookings for user: {} with {}", user.getUsername(), filter);
+		Page<BookingRow> results = queryEngine.findRows(Booking.class, BookingRow.class, BOOKING_ROW,
+			ListSpecifications.of(BOOKING_FIELDS, filter, user.getUserId()), BOOKING_SORTS.apply(pageable));
 		logger.info("Found {} bookings for user '{}'", results.getTotalElements(), user.getUsername());
 		return results;
 	}
 
+	/**
+	 * Retrieves one keyset page of all bookings with optional status, search and date-range filters.
+	 * 
+	 * @param filter Status, search term and date range
+	 * @param order Sort order; the booking ID is used as tie-breaker
+	 * @param cursor Cursor from the previous page, or null for the first page
+	 * @param size Page size
+	 * @return Page of booking rows with cursors for the neighbouring pages
+	 */
+	@Override
+	public CursorPage<BookingRow> scrollAllBookings(ListFilter filter, Sort.Order order, String cursor, int size) {
+		logger.debug("Scrolling all bookings with {}, order: {}", filter, order);
+		CursorPage<Long> ids = keysetPaginator.scrollIds(Booking.class, ListSpecifications.of(BOOKING_FIELDS, filter, null),
+			BOOKING_SORTS.resolve(order), "bookingId", cursor, size);
+		return toRows(ids);
+	}
+
+	/**
+	 * Retrieves one keyset page of a customer's bookings with optional status, search and date-range filters.
+	 * 
+	 * @param user The customer user
+	 * @param filter Status, search term and date range
+	 * @param order Sort order; the booking ID is used as tie-breaker
+	 * @param cursor Cursor from the previous page, or null for the first page
+	 * @param size Page size
+	 * @return Page of customer booking rows with cursors for the neighbouring pages
+	 */
+	@Override
+	public CursorPage<BookingRow> scrollCustomerBookings(User user, ListFilter filter, Sort.Order order,
+			String cursor, int size) {
+		logger.debug("Scrolling bookings for user: {} with {}, order: {}", user.getUsername(), filter, order);
+		CursorPage<Long> ids = keysetPaginator.scrollIds(Booking.class, ListSpecifications.of(BOOKING_FIELDS, filter, user.getUserId()),
+			BOOKING_SORTS.resolve(order), "bookingId", cursor, size);
+		return toRows(ids);
+	}
+
+	/**
+	 * Loads the list rows of a keyset page of booking IDs.
+	 */
+	private CursorPage<BookingRow> toRows(CursorPage<Long> ids) {
+		if (ids.getContent().isEmpty()) {
+			return ids.withContent(new ArrayList<>());
+		}
+		List<BookingRow> rows = bookingRepository.findRowsByIdIn(ids.getContent());
+		return ids.withContent(KeysetPaginator.inIdOrder(ids.getContent(), rows, BookingRow::bookingId));
+	}
+
 	/**
 	 * Creates a new booking after checking for date conflicts.
+	 * The booking is HELD until its hold expires; paying for it in time confirms it,
+	 * otherwise the venue is released.
+	 * In DATABASE conflict-check mode the venue row is locked for the rest of the
+	 * transaction, so concurrent bookings on the same venue are serialized.
+	 * In SLOTS mode nothing is read or locked: the booked days are inserted into
+	 * venue_day_slots and the database rejects any day that is already held.
 	 * 
 	 * @param booking The booking to create
 	 * @return The created booking
 	 * @throws RuntimeException if venue is already booked for the selected date range
 	 */
 	@Override
+	@Transactional
 	public Booking createBooking(Booking booking) {
 		logger.info("Creating new booking for venue: {}, user: {}", 
 			booking.getVenue().getVenueName(), booking.getUser().getUsername());
 		
-		// Check for date range conflicts
-		List<Booking> allBookings = (List<Booking>) bookingRepository.findAll();
-		boolean conflict = allBookings.stream()
-				.anyMatch(b -> b.getVenue().getVenueId().equals(booking.getVenue().getVenueId())
-						&& !"CANCELLED".equals(b.getStatus())
-						&& isDateRangeOverlapping(booking.getEventDate(), booking.getEndDate(), b.getEventDate(),
-								b.getEndDate() != null ? b.getEndDate() : b.getEventDate()));
+		boolean conflict = conflictCheckMode != BookingConflictMode.SLOTS && hasConflict(booking);
 
 		if (conflict) {
 			logger.warn("Booking conflict detected for venue: {} on dates {} to {}", 
@@ -138,43 +237,125 @@ public class BookingServiceImpl implements BookingService {
 			throw new RuntimeException("Venue is already booked for the selected date range.");
 		}
 		
-		booking.setStatus("PENDING");
+		holdScheduler.hold(booking);
 		Booking savedBooking = bookingRepository.save(booking);
+		if (conflictCheckMode == BookingConflictMode.SLOTS) {
+			reserveDays(savedBooking);
+		}
+		// Only a committed booking may block its venue or be tracked
+		afterCommit(() -> {
+			bookingIndex.add(savedBooking);
+			completionScheduler.track(savedBooking);
+			holdScheduler.track(savedBooking);
+		});
+		counters.bookingCreated(BookingStatus.HELD);
+		eventPublisher.publish(new BookingCreated(savedBooking.getBookingId(),
+			savedBooking.getVenue().getVenueId(), savedBooking.getUser().getUserId()));
 		logger.info("Booking created successfully with ID: {}", savedBooking.getBookingId());
 		return savedBooking;
 	}
 
 	/**
-	 * Updates the status of a booking.
-	 * If status is CANCELLED, automatically triggers a refund.
+	 * Creates a booking at most once per idempotency key.
+	 * A repeated submission of the booking form returns the booking created by the first one.
+	 * 
+	 * @param booking The booking to create
+	 * @param idempotencyKey Token of the submitted form, may be null
+	 * @return The created booking
+	 */
+	@Override
+	public Booking createBooking(Booking booking, String idempotencyKey) {
+		if (conflictCheckMode == BookingConflictMode.SEQUENCED) {
+			// Waits for the venue's lane without holding a database connection
+			try {
+				return submitBooking(booking, idempotencyKey).join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException cause ? cause : e;
+			}
+		}
+		return idempotencyService.execute("booking", idempotencyKey, () -> createBooking(booking),
+			Booking::getBookingId, this::getBookingById);
+	}
+
+	/**
+	 * Submits a booking, at most once per idempotency key.
+	 * In SEQUENCED conflict-check mode the booking is queued on its venue's lane in the
+	 * booking sequencer, which records the idempotency key in the transaction that inserts
+	 * the booking. In the other modes the booking is created before this method returns.
+	 * 
+	 * @param booking The booking to create
+	 * @param idempotencyKey Token of the submitted form, may be null
+	 * @return Completed with the created booking, or failed if the venue is already booked
+	 */
+	@Override
+	public CompletableFuture<Booking> submitBooking(Booking booking, String idempotencyKey) {
+		if (conflictCheckMode != BookingConflictMode.SEQUENCED) {
+			try {
+				return CompletableFuture.completedFuture(createBooking(booking, idempotencyKey));
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		logger.info("Submitting booking for venue: {}, user: {}",
+			booking.getVenue().getVenueName(), booking.getUser().getUsername());
+		return idempotencyService.executeAsync("booking", idempotencyKey,
+			recorder -> bookingSequencer.submit(booking, recorder), Booking::getBookingId, this::getBookingById);
+	}
+
+	/**
+	 * Updates the status of a booking, along the transitions allowed by {@link BookingStatus}.
+	 * If status is CANCELLED, a BookingCancelled event is recorded with the change;
+	 * the refund is made by its consumer after commit.
+	 * The change is redone on the new version if the booking was changed concurrently,
+	 * e.g. by its hold expiring or its payment completing; setting the status a booking
+	 * already has does nothing.
 	 * 
 	 * @param id The booking ID
 	 * @param status The new status
 	 * @return The updated booking
+	 * @throws IllegalStatusTransitionException if the booking's status does not lead to the new one
+	 * @throws ConcurrentUpdateException if the booking kept changing under the update
 	 */
 	@Override
-	public Booking updateStatus(Long id, String status) {
+	public Booking updateStatus(Long id, BookingStatus status) {
 		logger.info("Updating booking {} status to {}", id, status);
 		
+		Booking updatedBooking = optimisticRetry.execute("Booking #" + id, () -> changeStatus(id, status));
+		bookingIndex.add(updatedBooking);
+		completionScheduler.track(updatedBooking);
+		holdScheduler.track(updatedBooking);
+		logger.info("Booking {} status updated to {} successfully", id, status);
+		return updatedBooking;
+	}
+
+	/**
+	 * One attempt at a status change, in its own transaction.
+	 */
+	private Booking changeStatus(Long id, BookingStatus status) {
 		Booking booking = bookingRepository.findById(id)
 			.orElseThrow(() -> {
 				logger.error("Booking not found with ID: {}", id);
 				return new RuntimeException("Booking not found with id: " + id);
 			});
 		
+		BookingStatus previousStatus = booking.getStatus();
+		if (status == previousStatus) {
+			logger.debug("Booking {} is already {}", id, status);
+			return booking;
+		}
+		BookingStatus.checkTransition(booking, status);
 		booking.setStatus(status);
-		
-		if ("CANCELLED".equals(status)) {
-			try {
-				logger.info("Processing refund for cancelled booking: {}", id);
-				paymentService.refundPayment(id);
-			} catch (Exception e) {
-				logger.error("Error refunding payment for booking {}: {}", id, e.getMessage(), e);
-			}
+		if (status != BookingStatus.HELD) {
+			booking.setHoldExpiresAt(null);
 		}
 		
 		Booking updatedBooking = bookingRepository.save(booking);
-		logger.info("Booking {} status updated to {} successfully", id, status);
+		if (status == BookingStatus.CANCELLED) {
+			// Freed in every mode, so switching to SLOTS never finds stale days
+			daySlotRepository.deleteByBookingId(id);
+			eventPublisher.publish(new BookingCancelled(id, previousStatus));
+		}
+		counters.bookingChanged(previousStatus, status);
 		return updatedBooking;
 	}
 
@@ -209,25 +390,90 @@ public class BookingServiceImpl implements BookingService {
 	}
 
 	/**
-	 * Checks if two date ranges overlap.
+	 * Holds the booking's days in venue_day_slots with one batched insert.
 	 * 
-	 * @param start1 Start date of first range
-	 * @param end1 End date of first range
-	 * @param start2 Start date of second range
-	 * @param end2 End date of second range
-	 * @return true if ranges overlap, false otherwise
+	 * @param booking The saved booking
+	 * @throws RuntimeException if any of the days is already held by another booking
 	 */
-	private boolean isDateRangeOverlapping(LocalDate start1, LocalDate end1,
-			LocalDate start2, LocalDate end2) {
-		// Standard interval overlap logic: 
-		// Two ranges overlap if (StartA <= EndB) and (EndA >= StartB)
-		return !start1.isAfter(end2) && !end1.isBefore(start2);
+	private void reserveDays(Booking booking) {
+		Long venueId = booking.getVenue().getVenueId();
+		try {
+			try {
+				daySlotRepository.reserve(venueId, booking.getBookingId(), booking.getEventDate(), booking.getEndDate());
+			} catch (DataIntegrityViolationException e) {
+				// The days may be held by holds that expired but are not released yet
+				if (holdScheduler.releaseExpiredHolds(venueId) == 0) {
+					throw e;
+				}
+				daySlotRepository.reserve(venueId, booking.getBookingId(), booking.getEventDate(), booking.getEndDate());
+			}
+		} catch (DataIntegrityViolationException e) {
+			// Reported as a conflict the user can act on rather than a database error
+			logger.warn("Booking conflict detected for venue: {} on dates {} to {}",
+				booking.getVenue().getVenueName(), booking.getEventDate(), booking.getEndDate());
+			throw new RuntimeException("Venue is already booked for the selected date range.");
+		}
 	}
 
+	/**
+	 * Holds the days of bookings created before SLOTS mode was enabled, or while it was off.
+	 * Days already held are skipped, so this is safe to run on every node at every startup.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void reserveMissingDaySlots() {
+		if (conflictCheckMode != BookingConflictMode.SLOTS) {
+			return;
+		}
+		List<BookingInterval> active = bookingRepository.findActiveIntervals();
+		daySlotRepository.reserveMissing(active);
+		logger.info("Day slots checked for {} active bookings", active.size());
+	}
+
+	/**
+	 * Checks whether a booking's date range overlaps a non-cancelled booking on the same venue.
+	 * 
+	 * @param booking The booking to check
+	 * @return true if the venue is already booked for any day in the range
+	 */
+	private boolean hasConflict(Booking booking) {
+		Long venueId = booking.getVenue().getVenueId();
+		LocalDate endDate = booking.getEndDate() != null ? booking.getEndDate() : booking.getEventDate();
+		
+		if (conflictCheckMode == BookingConflictMode.DATABASE) {
+			venueRepository.findByIdForUpdate(venueId)
+				.orElseThrow(() -> new RuntimeException("Venue not found"));
+			return bookingRepository.existsActiveOverlap(venueId, booking.getEventDate(), endDate, LocalDateTime.now());
+		}
+		
+		// Default: in-memory booking index
+		return bookingIndex.hasOverlap(venueId, booking.getEventDate(), endDate);
+	}
+
+	/**
+	 * Runs the update after the current transaction commits, or immediately outside a transaction.
+	 */
+	private void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+
+	/**
+	 * Counts all bookings, from the in-memory dashboard counters.
+	 * 
+	 * @return Number of bookings
+	 */
 	@Override
 	public Long getBookingsCount() {
-		
-		return bookingRepository.count();
+		return counters.getBookingCount();
 	}
 
 }
\ No newline at end of file
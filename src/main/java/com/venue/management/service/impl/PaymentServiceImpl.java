@@ -1,20 +1,46 @@
 package com.venue.management.service.impl;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.Payment;
+import com.venue.management.entity.PaymentStatus;
 import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.exception.ConcurrentUpdateException;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.pagination.KeysetPaginator;
+import com.venue.management.query.ListFields;
+import com.venue.management.query.ListFilter;
+import com.venue.management.query.ListQueryEngine;
+import com.venue.management.query.ListSpecifications;
+import com.venue.management.query.RowMapping;
+import com.venue.management.query.SortWhitelist;
 import com.venue.management.repository.BookingRepository;
 import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.projection.PaymentRow;
+import com.venue.management.scheduler.BookingHoldScheduler;
 import com.venue.management.service.PaymentService;
+import com.venue.management.service.idempotency.IdempotencyService;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.payment.PaymentProcessor;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.criteria.Join;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service implementation for Payment operations.
@@ -28,20 +54,69 @@ public class PaymentServiceImpl implements PaymentService {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentServiceImpl.class);
 
+    // Filterable columns of the payment list; the owner is the user of the paid booking
+    private static final ListFields PAYMENT_FIELDS = new ListFields("paymentStatus",
+        List.of("booking.venue.venueName", "booking.user.username", "paymentStatus"),
+        "paymentDate", null, "booking.user.userId");
+
+    // Sortable columns, each backed by an index
+    private static final SortWhitelist PAYMENT_SORTS = new SortWhitelist(Map.of(
+        "paymentId", "paymentId",
+        "paymentDate", "paymentDate",
+        "paymentAmount", "paymentAmount",
+        "paymentStatus", "paymentStatus"), "paymentId");
+
+    private static final RowMapping<Payment, PaymentRow> PAYMENT_ROW = (root, cb) -> {
+        Join<Payment, Booking> booking = root.join("booking");
+        Join<Booking, User> user = booking.join("user");
+        Join<Booking, Venue> venue = booking.join("venue");
+        return cb.construct(PaymentRow.class, root.get("paymentId"), user.get("username"), venue.get("venueName"),
+            booking.get("status"), root.get("paymentAmount"), root.get("paymentDate"), root.get("paymentStatus"));
+    };
+
     @Autowired
     private PaymentRepository paymentRepository;
 
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ListQueryEngine queryEngine;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private PaymentProcessor paymentProcessor;
+
+    @Autowired
+    private VenueBookingIndex bookingIndex;
+
+    @Autowired
+    private BookingHoldScheduler holdScheduler;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
     /**
      * Processes a payment for a booking.
-     * Calculates the total amount based on number of days and updates booking status.
+     * Calculates the total amount based on number of days and saves the payment as PENDING.
+     * The booking must be a live hold; it moves to PENDING and no longer expires.
+     * The gateway is charged after commit; the payment then becomes SUCCESS (confirming
+     * the booking) or FAILED. A FAILED payment of the booking is reused for the new attempt,
+     * and a booking that is already paid or being paid is not charged again.
      * 
      * @param payment The payment to process
-     * @return The processed payment
+     * @return The pending payment
      */
     @Override
+    @Transactional
     public Payment processPayment(Payment payment) {
         logger.info("Processing payment for booking ID: {}", payment.getBooking().getBookingId());
         Booking booking = bookingRepository.findById(payment.getBooking().getBookingId())
@@ -60,20 +135,60 @@ public class PaymentServiceImpl implements PaymentService {
         logger.debug("Calculated payment amount: {} for {} days at {} per day", 
             totalAmount, days, booking.getVenue().getPricePerDay());
         
-        // Simulate payment success
-        payment.setPaymentDate(LocalDateTime.now());
-        payment.setPaymentStatus("SUCCESS");
-        payment.setPaymentAmount(totalAmount);
-        
-        // Update booking status
-        booking.setStatus("CONFIRMED");
-        bookingRepository.save(booking);
+        Payment existing = paymentRepository.findByBooking_BookingId(booking.getBookingId()).orElse(null);
+        if (existing != null && existing.getPaymentStatus() != PaymentStatus.FAILED) {
+            logger.warn("Booking {} already has a {} payment, not charging again",
+                booking.getBookingId(), existing.getPaymentStatus());
+            return existing;
+        }
+
+        // Only a live hold can be paid for; the update fails if it expired, even concurrently
+        if (bookingRepository.claimLiveHold(booking.getBookingId(), LocalDateTime.now()) == 0) {
+            logger.warn("Hold on booking {} has expired or is not held, not charging", booking.getBookingId());
+            throw new RuntimeException("Your hold on this venue has expired. Please book it again.");
+        }
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setHoldExpiresAt(null);
+        // A rolled-back payment leaves the hold as it was
+        afterCommit(() -> {
+            bookingIndex.add(booking);
+            holdScheduler.track(booking);
+        });
+        counters.bookingChanged(BookingStatus.HELD, BookingStatus.PENDING);
+
+        // Retrying after a failed charge updates the failed payment
+        Payment pending = existing != null ? existing : payment;
+        double failedAmount = pending.getPaymentAmount();
+        pending.setBooking(booking);
+        pending.setPaymentDate(LocalDateTime.now());
+        pending.setPaymentStatus(PaymentStatus.PENDING);
+        pending.setPaymentAmount(totalAmount);
 
-        Payment savedPayment = paymentRepository.save(payment);
-        logger.info("Payment processed successfully with ID: {}", savedPayment.getPaymentId());
+        Payment savedPayment = paymentRepository.save(pending);
+        if (existing != null) {
+            counters.paymentChanged(PaymentStatus.FAILED, PaymentStatus.PENDING, failedAmount);
+        } else {
+            counters.paymentCreated(PaymentStatus.PENDING, totalAmount);
+        }
+        paymentProcessor.submit(savedPayment);
+        logger.info("Payment {} pending, charging the gateway", savedPayment.getPaymentId());
         return savedPayment;
     }
 
+    /**
+     * Processes a payment at most once per idempotency key.
+     * A repeated submission of the payment form returns the payment created by the first one.
+     * 
+     * @param payment The payment to process
+     * @param idempotencyKey Token of the submitted form, may be null
+     * @return The processed payment
+     */
+    @Override
+    public Payment processPayment(Payment payment, String idempotencyKey) {
+        return idempotencyService.execute("payment", idempotencyKey, () -> processPayment(payment),
+            Payment::getPaymentId, this::getPaymentById);
+    }
+
     /**
      * Retrieves a payment by its ID.
      * 
@@ -91,158 +206,191 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     /**
-     * Retrieves all payments with optional status filter and search.
+     * Retrieves all payments with optional status, search and date-range filters.
      * 
-     * @param status Optional status filter
-     * @param search Optional search term to search in venue name, username, or payment status
+     * @param filter Status, search term (venue name, username or payment status) and payment date range
      * @param pageable Pagination and sorting parameters
-     * @return Page of payments matching the criteria
+     * @return Page of payment rows matching the criteria
      */
     @Override
-    public Page<Payment> getAllPayments(String status, String search, Pageable pageable) {
-        logger.debug("Getting all payments with status: {}, search: {}", status, search);
-        
-        // If search is provided, search across multiple fields
-        if (search != null && !search.trim().isEmpty()) {
-            Page<Payment> results = paymentRepository.findByBooking_Venue_VenueNameContainingIgnoreCaseOrBooking_User_UsernameContainingIgnoreCaseOrPaymentStatusContainingIgnoreCase(
-                search, search, search, pageable);
-            logger.info("Found {} payments matching search '{}'", results.getTotalElements(), search);
-            return results;
-        }
-        
-        // Apply status filter if provided
-        if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-            Page<Payment> results = paymentRepository.findByPaymentStatus(status, pageable);
-            logger.info("Found {} payments with status '{}'", results.getTotalElements(), status);
-            return results;
-        }
-        
-        Page<Payment> results = paymentRepository.findAll(pageable);
-        logger.info("Found {} total payments", results.getTotalElements());
+    public Page<PaymentRow> getAllPayments(ListFilter filter, Pageable pageable) {
+        logger.debug("Getting all payments with {}", filter);
+        Page<PaymentRow> results = queryEngine.findRows(Payment.class, PaymentRow.class, PAYMENT_ROW,
+            ListSpecifications.of(PAYMENT_FIELDS, filter, null), PAYMENT_SORTS.apply(pageable));
+        logger.info("Found {} payments", results.getTotalElements());
         return results;
     }
 
     /**
-     * Retrieves payments for a specific user with optional status filter and search.
+     * Retrieves payments for a specific user with optional status, search and date-range filters.
      * 
      * @param user The user
-     * @param status Optional status filter
-     * @param search Optional search term
+     * @param filter Status, search term and payment date range
      * @param pageable Pagination and sorting parameters
-     * @return Page of user payments matching the criteria
+     * @return Page of user payment rows matching the criteria
      */
     @Override
-    public Page<Payment> getUserPayments(User user, String status, String search, Pageable pageable) {
-        logger.debug("Getting payments for user: {} with status: {}, search: {}", 
-            user.getUsername(), status, search);
-        
-        // If search is provided, search within user's payments
-        if (search != null && !search.trim().isEmpty()) {
-            Page<Payment> searchResults = paymentRepository.findByBooking_User_UserId(user.getUserId(), pageable);
-            logger.info("Found {} payments for user '{}' matching search '{}'", 
-                searchResults.getTotalElements(), user.getUsername(), search);
-            return searchResults;
-        }
-        
-        // Apply status filter if provided
-        if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-            Page<Payment> results = paymentRepository.findByBooking_User_UserIdAndPaymentStatus(user.getUserId(), status, pageable);
-            logger.info("Found {} payments for user '{}' with status '{}'", 
-                results.getTotalElements(), user.getUsername(), status);
-            return results;
-        }
-        
-        Page<Payment> results = paymentRepository.findByBooking_User_UserId(user.getUserId(), pageable);
+    public Page<PaymentRow> getUserPayments(User user, ListFilter filter, Pageable pageable) {
+        logger.debug("Getting payments for user: {} with {}", user.getUsername(), filter);
+        Page<PaymentRow> results = queryEngine.findRows(Payment.class, PaymentRow.class, PAYMENT_ROW,
+            ListSpecifications.of(PAYMENT_FIELDS, filter, user.getUserId()), PAYMENT_SORTS.apply(pageable));
         logger.info("Found {} payments for user '{}'", results.getTotalElements(), user.getUsername());
         return results;
     }
 
+    /**
+     * Retrieves one keyset page of all payments with optional status, search and date-range filters.
+     * 
+     * @param filter Status, search term and payment date range
+     * @param order Sort order; the payment ID is used as tie-breaker
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Page of payment rows with cursors for the neighbouring pages
+     */
+    @Override
+    public CursorPage<PaymentRow> scrollAllPayments(ListFilter filter, Sort.Order order, String cursor, int size) {
+        logger.debug("Scrolling all payments with {}, order: {}", filter, order);
+        CursorPage<Long> ids = keysetPaginator.scrollIds(Payment.class, ListSpecifications.of(PAYMENT_FIELDS, filter, null),
+            PAYMENT_SORTS.resolve(order), "paymentId", cursor, size);
+        return toRows(ids);
+    }
+
+    /**
+     * Retrieves one keyset page of a user's payments with optional status, search and date-range filters.
+     * 
+     * @param user The user
+     * @param filter Status, search term and payment date range
+     * @param order Sort order; the payment ID is used as tie-breaker
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Page of user payment rows with cursors for the neighbouring pages
+     */
+    @Override
+    public CursorPage<PaymentRow> scrollUserPayments(User user, ListFilter filter, Sort.Order order,
+                                                  String cursor, int size) {
+        logger.debug("Scrolling payments for user: {} with {}, order: {}", user.getUsername(), filter, order);
+        CursorPage<Long> ids = keysetPaginator.scrollIds(Payment.class, ListSpecifications.of(PAYMENT_FIELDS, filter, user.getUserId()),
+            PAYMENT_SORTS.resolve(order), "paymentId", cursor, size);
+        return toRows(ids);
+    }
+
+    /**
+     * Loads the list rows of a keyset page of payment IDs.
+     */
+    private CursorPage<PaymentRow> toRows(CursorPage<Long> ids) {
+        if (ids.getContent().isEmpty()) {
+            return ids.withContent(new ArrayList<>());
+        }
+        List<PaymentRow> rows = paymentRepository.findRowsByIdIn(ids.getContent());
+        return ids.withContent(KeysetPaginator.inIdOrder(ids.getContent(), rows, PaymentRow::paymentId));
+    }
+
     /**
      * Refunds a payment for a cancelled booking.
+     * Safe to repeat: a payment that is already refunded is left alone. Redone on the new
+     * version if the payment changed concurrently, e.g. its charge completing.
      * 
      * @param bookingId The booking ID
+     * @throws ConcurrentUpdateException if the payment kept changing under the refund
      */
     @Override
-    @Transactional
     public void refundPayment(Long bookingId) {
         logger.info("Processing refund for booking ID: {}", bookingId);
+        optimisticRetry.execute("Payment of booking #" + bookingId, () -> refund(bookingId));
+    }
+
+    /**
+     * One attempt at a refund, in its own transaction.
+     */
+    private Payment refund(Long bookingId) {
+        Payment payment = paymentRepository.findByBooking_BookingId(bookingId).orElse(null);
         
-        Booking booking = bookingRepository.findById(bookingId)
-            .orElseThrow(() -> {
-                logger.error("Booking not found for refund with ID: {}", bookingId);
-                return new RuntimeException("Booking not found");
-            });
-        
-        Payment payment = paymentRepository.findByBooking(booking).orElse(null);
-        
-        if (payment != null && "SUCCESS".equals(payment.getPaymentStatus())) {
-            payment.setPaymentStatus("REFUNDED");
+        if (payment != null && payment.getPaymentStatus() == PaymentStatus.SUCCESS) {
+            payment.setPaymentStatus(PaymentStatus.REFUNDED);
             paymentRepository.save(payment);
+            counters.paymentChanged(PaymentStatus.SUCCESS, PaymentStatus.REFUNDED, payment.getPaymentAmount());
             logger.info("Payment refunded successfully for booking ID: {}", bookingId);
+        } else if (payment != null && payment.getPaymentStatus() == PaymentStatus.REFUNDED) {
+            logger.debug("Payment for booking ID {} is already refunded", bookingId);
         } else {
             logger.warn("No payment found to refund for booking ID: {}", bookingId);
         }
+        return payment;
     }
 
     /**
-     * Calculates total earnings from all payments.
+     * Calculates total earnings from all payments, from the in-memory dashboard counters.
      * 
      * @return Total earnings amount
      */
     @Override
     public double getTotalEarnings() {
-        Double total = paymentRepository.sumOfPayments();
-        double earnings = total != null ? total : 0.0;
+        double earnings = counters.getPaymentTotal();
         logger.debug("Total earnings: {}", earnings);
         return earnings;
     }
 
     /**
-     * Counts successful payments.
+     * Counts successful payments, from the in-memory dashboard counters.
      * 
      * @return Count of successful payments
      */
     @Override
     public long getSuccessfulPaymentsCount() {
-        long count = paymentRepository.countByPaymentStatus("SUCCESS");
+        long count = counters.getPaymentCount(PaymentStatus.SUCCESS);
         logger.debug("Successful payments count: {}", count);
         return count;
     }
 
     /**
-     * Counts pending payments.
+     * Counts pending payments, from the in-memory dashboard counters.
      * 
      * @return Count of pending payments
      */
     @Override
     public long getPendingPaymentsCount() {
-        long count = paymentRepository.countByPaymentStatus("PENDING");
+        long count = counters.getPaymentCount(PaymentStatus.PENDING);
         logger.debug("Pending payments count: {}", count);
         return count;
     }
 
     /**
-     * Counts refunded payments.
+     * Counts refunded payments, from the in-memory dashboard counters.
      * 
      * @return Count of refunded payments
      */
     @Override
     public long getRefundedPaymentsCount() {
-        long count = paymentRepository.countByPaymentStatus("REFUNDED");
+        long count = counters.getPaymentCount(PaymentStatus.REFUNDED);
         logger.debug("Refunded payments count: {}", count);
         return count;
     }
 
     /**
-     * Calculates total refunded amount.
+     * Calculates total refunded amount, from the in-memory dashboard counters.
      * 
      * @return Total refunded amount
      */
     @Override
     public double getTotalRefundedAmount() {
-        Double total = paymentRepository.sumRefundedPayments();
-        double refunded = total != null ? total : 0.0;
+        double refunded = counters.getPaymentTotal(PaymentStatus.REFUNDED);
         logger.debug("Total refunded amount: {}", refunded);
         return refunded;
     }
+
+    /**
+     * Runs the update after the current transaction commits, or immediately outside a transaction.
+     */
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
 }
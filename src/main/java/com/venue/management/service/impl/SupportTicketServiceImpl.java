@@ -1,18 +1,41 @@
 package com.venue.management.service.impl;
 
 import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.TicketStatus;
 import com.venue.management.entity.User;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.event.TicketResolved;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.pagination.KeysetPaginator;
+import com.venue.management.query.ListFields;
+import com.venue.management.query.ListFilter;
+import com.venue.management.query.ListQueryEngine;
+import com.venue.management.query.ListSpecifications;
+import com.venue.management.query.RowMapping;
+import com.venue.management.query.SortWhitelist;
 import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.projection.TicketRow;
 import com.venue.management.service.SupportTicketService;
+import com.venue.management.service.index.TicketSearchIndex;
+import com.venue.management.service.stats.DashboardCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.criteria.Join;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service implementation for SupportTicket operations.
@@ -26,9 +49,44 @@ public class SupportTicketServiceImpl implements SupportTicketService {
 
     private static final Logger logger = LoggerFactory.getLogger(SupportTicketServiceImpl.class);
 
+    // Filterable columns of the ticket list; the owner is the customer who raised the ticket
+    private static final ListFields TICKET_FIELDS = new ListFields("ticketStatus",
+        List.of("customer.username", "issueType", "ticketStatus", "issueDescription"),
+        "createdDate", null, "customer.userId");
+
+    // Sortable columns, each backed by an index
+    private static final SortWhitelist TICKET_SORTS = new SortWhitelist(Map.of(
+        "ticketId", "ticketId",
+        "createdDate", "createdDate",
+        "ticketStatus", "ticketStatus"), "ticketId");
+
+    // Upper bound on the ranked search hits paged by one search, and on the IDs filtered per query
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
+    private static final RowMapping<SupportTicket, TicketRow> TICKET_ROW = (root, cb) -> {
+        Join<SupportTicket, User> customer = root.join("customer");
+        return cb.construct(TicketRow.class, root.get("ticketId"), root.get("issueDescription"), root.get("issueType"),
+            root.get("ticketStatus"), root.get("createdDate"), root.get("resolutionNotes"), customer.get("role"));
+    };
+
     @Autowired
     private SupportTicketRepository supportTicketRepository;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ListQueryEngine queryEngine;
+
+    @Autowired
+    private TicketSearchIndex searchIndex;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
     /**
      * Retrieves all support tickets without pagination.
      * 
@@ -43,34 +101,23 @@ public class SupportTicketServiceImpl implements SupportTicketService {
     }
 
     /**
-     * Retrieves all support tickets with optional status filter and search, with pagination and sorting.
+     * Retrieves all support tickets with optional status, search and date-range filters.
+     * Searches are answered by the ticket search index and ordered by relevance.
      * 
-     * @param status Optional status filter (e.g., "OPEN", "RESOLVED")
-     * @param search Optional search term to search in username, issue type, status, or description
-     * @param pageable Pagination and sorting parameters
-     * @return Page of support tickets matching the criteria
+     * @param filter Status (e.g., "OPEN", "RESOLVED"), search term (description, issue type, resolution notes
+     *               or username) and created date range
+     * @param pageable Pagination and sorting parameters (sorting applies when not searching)
+     * @return Page of support ticket rows matching the criteria
      */
     @Override
-    public Page<SupportTicket> getAllTickets(String status, String search, Pageable pageable) {
-        logger.debug("Getting all support tickets with status: {}, search: {}", status, search);
-        
-        // If search is provided, search across multiple fields
-        if (search != null && !search.trim().isEmpty()) {
-            Page<SupportTicket> results = supportTicketRepository.findByCustomer_UsernameContainingIgnoreCaseOrIssueTypeContainingIgnoreCaseOrTicketStatusContainingIgnoreCaseOrIssueDescriptionContainingIgnoreCase(
-                search, search, search, search, pageable);
-            logger.info("Found {} support tickets matching search '{}'", results.getTotalElements(), search);
-            return results;
+    public Page<TicketRow> getAllTickets(ListFilter filter, Pageable pageable) {
+        logger.debug("Getting all support tickets with {}", filter);
+        if (filter.getSearch() != null) {
+            return searchTickets(filter, null, pageable);
         }
-        
-        // Apply status filter if provided
-        if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-            Page<SupportTicket> results = supportTicketRepository.findByTicketStatus(status, pageable);
-            logger.info("Found {} support tickets with status '{}'", results.getTotalElements(), status);
-            return results;
-        }
-        
-        Page<SupportTicket> results = supportTicketRepository.findAll(pageable);
-        logger.info("Found {} total support tickets", results.getTotalElements());
+        Page<TicketRow> results = queryEngine.findRows(SupportTicket.class, TicketRow.class, TICKET_ROW,
+            ListSpecifications.of(TICKET_FIELDS, filter, null), TICKET_SORTS.apply(pageable));
+        logger.info("Found {} support tickets", results.getTotalElements());
         return results;
     }
 
@@ -89,40 +136,119 @@ public class SupportTicketServiceImpl implements SupportTicketService {
     }
 
     /**
-     * Retrieves support tickets for a specific customer with optional status filter and search, with pagination and sorting.
+     * Retrieves support tickets for a specific customer with optional status, search and date-range filters.
+     * Searches are answered by the ticket search index and ordered by relevance.
      * 
      * @param user The customer user
-     * @param status Optional status filter
-     * @param search Optional search term
-     * @param pageable Pagination and sorting parameters
-     * @return Page of customer's support tickets matching the criteria
+     * @param filter Status, search term and created date range
+     * @param pageable Pagination and sorting parameters (sorting applies when not searching)
+     * @return Page of customer's support ticket rows matching the criteria
      */
     @Override
-    public Page<SupportTicket> getCustomerTickets(User user, String status, String search, Pageable pageable) {
-        logger.debug("Getting support tickets for user: {} with status: {}, search: {}", 
-            user.getUsername(), status, search);
-        
-        // If search is provided, search within customer's tickets
-        if (search != null && !search.trim().isEmpty()) {
-            Page<SupportTicket> searchResults = supportTicketRepository.findByCustomer(user, pageable);
-            logger.info("Found {} support tickets for user '{}' matching search '{}'", 
-                searchResults.getTotalElements(), user.getUsername(), search);
-            return searchResults;
+    public Page<TicketRow> getCustomerTickets(User user, ListFilter filter, Pageable pageable) {
+        logger.debug("Getting support tickets for user: {} with {}", user.getUsername(), filter);
+        if (filter.getSearch() != null) {
+            return searchTickets(filter, user.getUserId(), pageable);
         }
-        
-        // Apply status filter if provided
-        if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-            Page<SupportTicket> results = supportTicketRepository.findByCustomerAndTicketStatus(user, status, pageable);
-            logger.info("Found {} support tickets for user '{}' with status '{}'", 
-                results.getTotalElements(), user.getUsername(), status);
-            return results;
-        }
-        
-        Page<SupportTicket> results = supportTicketRepository.findByCustomer(user, pageable);
+        Page<TicketRow> results = queryEngine.findRows(SupportTicket.class, TicketRow.class, TICKET_ROW,
+            ListSpecifications.of(TICKET_FIELDS, filter, user.getUserId()), TICKET_SORTS.apply(pageable));
         logger.info("Found {} support tickets for user '{}'", results.getTotalElements(), user.getUsername());
         return results;
     }
 
+    /**
+     * Retrieves one keyset page of all support tickets with optional status, search and date-range filters.
+     * 
+     * @param filter Status, search term and created date range
+     * @param order Sort order; the ticket ID is used as tie-breaker
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Page of support ticket rows with cursors for the neighbouring pages
+     */
+    @Override
+    public CursorPage<TicketRow> scrollAllTickets(ListFilter filter, Sort.Order order, String cursor, int size) {
+        logger.debug("Scrolling all support tickets with {}, order: {}", filter, order);
+        return scrollTickets(filter, null, order, cursor, size);
+    }
+
+    /**
+     * Retrieves one keyset page of a customer's support tickets with optional status, search and date-range filters.
+     * 
+     * @param user The customer user
+     * @param filter Status, search term and created date range
+     * @param order Sort order; the ticket ID is used as tie-breaker
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Page of the customer's support ticket rows with cursors for the neighbouring pages
+     */
+    @Override
+    public CursorPage<TicketRow> scrollCustomerTickets(User user, ListFilter filter, Sort.Order order,
+                                                           String cursor, int size) {
+        logger.debug("Scrolling support tickets for user: {} with {}, order: {}", user.getUsername(), filter, order);
+        return scrollTickets(filter, user.getUserId(), order, cursor, size);
+    }
+
+    /**
+     * Ranks the owner's tickets through the search index, drops those failing the other
+     * criteria with ID queries of one chunk each, and loads the rows of the requested page.
+     * Only the first {@code MAX_SEARCH_RESULTS} tickets passing every criterion are paged.
+     */
+    private Page<TicketRow> searchTickets(ListFilter filter, Long ownerId, Pageable pageable) {
+        List<Long> rankedIds = searchIndex.search(filter.getSearch(), ownerId, Integer.MAX_VALUE);
+        if (filter.hasCriteriaBesidesSearch()) {
+            List<Long> kept = new ArrayList<>();
+            for (int from = 0; from < rankedIds.size() && kept.size() < MAX_SEARCH_RESULTS; from += MAX_SEARCH_RESULTS) {
+                List<Long> candidates = rankedIds.subList(from, Math.min(from + MAX_SEARCH_RESULTS, rankedIds.size()));
+                Specification<SupportTicket> spec = ListSpecifications.<SupportTicket>of(TICKET_FIELDS, filter.withoutSearch(), ownerId)
+                    .and((root, query, cb) -> root.get("ticketId").in(candidates));
+                Set<Long> allowed = new HashSet<>(queryEngine.findIds(SupportTicket.class, "ticketId", spec));
+                candidates.stream().filter(allowed::contains).forEach(kept::add);
+            }
+            rankedIds = kept;
+        }
+        if (rankedIds.size() > MAX_SEARCH_RESULTS) {
+            rankedIds = rankedIds.subList(0, MAX_SEARCH_RESULTS);
+        }
+        
+        int start = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(start, end);
+        List<TicketRow> content = pageIds.isEmpty()
+            ? new ArrayList<>()
+            : KeysetPaginator.inIdOrder(pageIds, supportTicketRepository.findRowsByIdIn(pageIds), TicketRow::ticketId);
+        logger.info("Found {} support tickets matching search '{}'", rankedIds.size(), filter.getSearch());
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    /**
+     * Keyset page of tickets. A search term is resolved to the owner's matching ticket IDs
+     * through the search index, which then act as a plain ID filter. They are not capped,
+     * as a truncated set would silently hide tickets from the later pages.
+     */
+    private CursorPage<TicketRow> scrollTickets(ListFilter filter, Long ownerId, Sort.Order order, String cursor, int size) {
+        Specification<SupportTicket> spec = ListSpecifications.of(TICKET_FIELDS, filter.withoutSearch(), ownerId);
+        if (filter.getSearch() != null) {
+            List<Long> matchingIds = searchIndex.search(filter.getSearch(), ownerId, Integer.MAX_VALUE);
+            if (matchingIds.isEmpty()) {
+                return new CursorPage<>(new ArrayList<>(), null, null);
+            }
+            spec = spec.and((root, query, cb) -> root.get("ticketId").in(matchingIds));
+        }
+        CursorPage<Long> ids = keysetPaginator.scrollIds(SupportTicket.class, spec, TICKET_SORTS.resolve(order), "ticketId", cursor, size);
+        return toRows(ids);
+    }
+
+    /**
+     * Loads the list rows of a keyset page of ticket IDs.
+     */
+    private CursorPage<TicketRow> toRows(CursorPage<Long> ids) {
+        if (ids.getContent().isEmpty()) {
+            return ids.withContent(new ArrayList<>());
+        }
+        List<TicketRow> rows = supportTicketRepository.findRowsByIdIn(ids.getContent());
+        return ids.withContent(KeysetPaginator.inIdOrder(ids.getContent(), rows, TicketRow::ticketId));
+    }
+
     /**
      * Creates a new support ticket.
      * 
@@ -132,9 +258,11 @@ public class SupportTicketServiceImpl implements SupportTicketService {
     @Override
     public SupportTicket createTicket(SupportTicket ticket) {
         logger.info("Creating new support ticket for user: {}", ticket.getCustomer().getUsername());
-        ticket.setTicketStatus("OPEN");
+        ticket.setTicketStatus(TicketStatus.OPEN);
         ticket.setCreatedDate(LocalDateTime.now());
         SupportTicket savedTicket = supportTicketRepository.save(ticket);
+        searchIndex.put(savedTicket);
+        counters.ticketCreated(TicketStatus.OPEN);
         logger.info("Support ticket created successfully with ID: {}", savedTicket.getTicketId());
         return savedTicket;
     }
@@ -163,6 +291,7 @@ public class SupportTicketServiceImpl implements SupportTicketService {
      * @return The resolved support ticket
      */
     @Override
+    @Transactional
     public SupportTicket resolveTicket(Long id, String resolutionNotes) {
         logger.info("Resolving support ticket ID: {}", id);
         
@@ -172,24 +301,37 @@ public class SupportTicketServiceImpl implements SupportTicketService {
                 return new RuntimeException("Support ticket not found");
             });
         
-        ticket.setTicketStatus("RESOLVED");
+        TicketStatus previousStatus = ticket.getTicketStatus();
+        ticket.setTicketStatus(TicketStatus.RESOLVED);
         ticket.setResolvedDate(LocalDateTime.now());
         ticket.setResolutionNotes(resolutionNotes);
         
         SupportTicket resolvedTicket = supportTicketRepository.save(ticket);
+        searchIndex.put(resolvedTicket);
+        counters.ticketChanged(previousStatus, TicketStatus.RESOLVED);
+        eventPublisher.publish(new TicketResolved(id, ticket.getCustomer() != null ? ticket.getCustomer().getUserId() : null));
         logger.info("Support ticket {} resolved successfully", id);
         return resolvedTicket;
     }
     
     /**
-     * Counts open support tickets.
+     * Counts open support tickets, from the in-memory dashboard counters.
      * 
      * @return Count of open tickets
      */
     @Override
     public long countOpenTickets() {
-        long count = supportTicketRepository.countByTicketStatus("OPEN");
+        long count = counters.getTicketCount(TicketStatus.OPEN);
         logger.debug("Open support tickets count: {}", count);
         return count;
     }
+
+    /**
+     * Rebuilds the ticket search index from the support tickets table.
+     */
+    @Override
+    public void rebuildSearchIndex() {
+        logger.info("Rebuilding support ticket search index");
+        searchIndex.rebuild();
+    }
 }
@@ -1,23 +1,43 @@
 package com.venue.management.service.impl;
 
+import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
 import com.venue.management.repository.UserRepository;
+import com.venue.management.security.AccountChangeTracker;
 import com.venue.management.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+
+    // Upper bound of IDs per bulk UPDATE/DELETE, keeping the IN list small
+    private static final int BULK_BATCH_SIZE = 500;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AccountChangeTracker changeTracker;
+
     @Override
     public User registerUser(User user) {
         if (userRepository.findByUsername(user.getUsername()).isPresent()) {
@@ -44,4 +64,78 @@ public class UserServiceImpl implements UserService {
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
+
+    /**
+     * Retrieves one page of event managers, either approved or awaiting approval.
+     * 
+     * @param enabled true for approved managers, false for pending requests
+     * @param pageable Pagination parameters; without a sort, oldest requests come first
+     * @return Page of event managers
+     */
+    @Override
+    public Page<User> getManagers(boolean enabled, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by("userId"));
+        }
+        return userRepository.findByRoleAndEnabled(Role.EVENT_MANAGER, enabled, pageable);
+    }
+
+    /**
+     * Counts event managers, either approved or awaiting approval.
+     * 
+     * @param enabled true for approved managers, false for pending requests
+     * @return Number of event managers
+     */
+    @Override
+    public long countManagers(boolean enabled) {
+        return userRepository.countByRoleAndEnabled(Role.EVENT_MANAGER, enabled);
+    }
+
+    /**
+     * Approves pending event managers in batched bulk updates.
+     * IDs of accounts that are not pending event managers are ignored.
+     * 
+     * @param userIds IDs of the managers to approve
+     * @return Number of approved managers
+     */
+    @Override
+    @Transactional
+    public int approveManagers(Collection<Long> userIds) {
+        int approved = 0;
+        for (List<Long> batch : batches(userIds)) {
+            approved += userRepository.enablePending(batch, Role.EVENT_MANAGER);
+            batch.forEach(changeTracker::accountChanged);
+        }
+        logger.info("Approved {} of {} requested event managers", approved, userIds.size());
+        return approved;
+    }
+
+    /**
+     * Rejects pending event managers by deleting their accounts in batched bulk deletes.
+     * IDs of accounts that are not pending event managers are ignored.
+     * 
+     * @param userIds IDs of the managers to reject
+     * @return Number of rejected managers
+     */
+    @Override
+    @Transactional
+    public int rejectManagers(Collection<Long> userIds) {
+        int rejected = 0;
+        for (List<Long> batch : batches(userIds)) {
+            rejected += userRepository.deletePending(batch, Role.EVENT_MANAGER);
+            batch.forEach(changeTracker::accountChanged);
+        }
+        logger.info("Rejected {} of {} requested event managers", rejected, userIds.size());
+        return rejected;
+    }
+
+    private static List<List<Long>> batches(Collection<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += BULK_BATCH_SIZE) {
+            batches.add(distinct.subList(i, Math.min(i + BULK_BATCH_SIZE, distinct.size())));
+        }
+        return batches;
+    }
 }
@@ -1,23 +1,55 @@
 package com.venue.management.service.impl;
 
+import com.venue.management.cache.CacheStats;
+import com.venue.management.cache.CachedSnapshot;
+import com.venue.management.cache.FrequencyCache;
 import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.exception.ConcurrentUpdateException;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.pagination.KeysetPaginator;
+import com.venue.management.query.SortWhitelist;
 import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueDaySlotRepository;
 import com.venue.management.repository.VenueRepository;
 import com.venue.management.service.VenueService;
+import com.venue.management.service.image.ImageVariant;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.index.VenueSearchIndex;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for Venue operations.
  * Handles business logic for venues including CRUD operations, pagination, sorting, and search.
+ * Venues by ID and the all/available venue lists are cached; every write through this
+ * service invalidates them. Cached venues are handed out as copies, so callers may modify
+ * and save them without touching the cache.
  * 
  * @author Event Venue Management System
  * @version 1.0
@@ -27,51 +59,133 @@ public class VenueServiceImpl implements VenueService {
 
     private static final Logger logger = LoggerFactory.getLogger(VenueServiceImpl.class);
 
+    // Sortable columns, each backed by an index
+    private static final SortWhitelist VENUE_SORTS = new SortWhitelist(Map.of(
+        "venueId", "venueId",
+        "venueName", "venueName",
+        "location", "location",
+        "pricePerDay", "pricePerDay",
+        "capacity", "capacity",
+        "status", "status"), "venueId");
+
+    // Candidate venue IDs read per query by the availability search
+    private static final int AVAILABILITY_BATCH_SIZE = 200;
+
+    // Upper bound of venues kept in the by-ID cache
+    private static final int VENUE_CACHE_CAPACITY = 512;
+
+    private final FrequencyCache<Long, Venue> venueCache = new FrequencyCache<>(VENUE_CACHE_CAPACITY);
+    private final CachedSnapshot<List<Venue>> allVenues = new CachedSnapshot<>();
+    private final CachedSnapshot<List<Venue>> availableVenues = new CachedSnapshot<>();
+
+    // Bumped on every venue write; a by-ID load that overlaps a write is not cached
+    private final AtomicLong venueWrites = new AtomicLong();
+
     @Autowired
     private VenueRepository venueRepository;
 
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private VenueBookingIndex bookingIndex;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private VenueSearchIndex searchIndex;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Autowired
+    private VenueDaySlotRepository daySlotRepository;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
     /**
-     * Retrieves all venues without pagination.
+     * Retrieves all venues without pagination, from the cached snapshot when present.
      * 
      * @return List of all venues
      */
     @Override
     public List<Venue> getAllVenues() {
         logger.debug("Getting all venues");
-        List<Venue> venues = (List<Venue>) venueRepository.findAll();
+        List<Venue> venues = copyOf(allVenues.get(() -> List.copyOf(venueRepository.findAll())));
         logger.info("Retrieved {} venues", venues.size());
         return venues;
     }
 
     /**
      * Retrieves all venues with optional search, with pagination and sorting.
+     * Searches are answered by the venue search index and ordered by relevance;
+     * only the requested page is loaded.
      * 
      * @param search Optional search term to search in venue name, location, or status
-     * @param pageable Pagination and sorting parameters
+     * @param pageable Pagination and sorting parameters (sorting applies when not searching)
      * @return Page of venues matching the criteria
      */
     @Override
     public Page<Venue> getAllVenues(String search, Pageable pageable) {
         logger.debug("Getting all venues with search: {}", search);
         
-        // If search is provided, search across multiple fields
-        if (search != null && !search.trim().isEmpty()) {
-            Page<Venue> results = venueRepository.findByVenueNameContainingIgnoreCaseOrLocationContainingIgnoreCaseOrStatusContainingIgnoreCase(
-                search, search, search, pageable);
-            logger.info("Found {} venues matching search '{}'", results.getTotalElements(), search);
+        if (search == null || search.trim().isEmpty()) {
+            Page<Venue> results = venueRepository.findAll(VENUE_SORTS.apply(pageable));
+            logger.info("Found {} total venues", results.getTotalElements());
             return results;
         }
         
-        Page<Venue> results = venueRepository.findAll(pageable);
-        logger.info("Found {} total venues", results.getTotalElements());
-        return results;
+        List<Long> rankedIds = searchIndex.search(search);
+        int start = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), rankedIds.size());
+        List<Venue> content = hydrate(rankedIds.subList(start, end));
+        logger.info("Found {} venues matching search '{}'", rankedIds.size(), search);
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    /**
+     * Retrieves one keyset page of venues with optional search.
+     * The search index supplies the matching IDs; the page itself is sorted and sought as usual.
+     * 
+     * @param search Optional search term to search in venue name, location, or status
+     * @param order Sort order; the venue ID is used as tie-breaker
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Page of venues with cursors for the neighbouring pages
+     */
+    @Override
+    public CursorPage<Venue> scrollVenues(String search, Sort.Order order, String cursor, int size) {
+        logger.debug("Scrolling venues with search: {}, order: {}", search, order);
+        Specification<Venue> filter = null;
+        if (search != null && !search.trim().isEmpty()) {
+            List<Long> matchingIds = searchIndex.search(search);
+            if (matchingIds.isEmpty()) {
+                return new CursorPage<>(new ArrayList<>(), null, null);
+            }
+            filter = (root, query, cb) -> root.get("venueId").in(matchingIds);
+        }
+        return keysetPaginator.scroll(Venue.class, filter, VENUE_SORTS.resolve(order), "venueId", null, cursor, size);
+    }
+
+    /**
+     * Loads venues in one query and returns them in the order of the given IDs.
+     */
+    private List<Venue> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Venue> venuesById = venueRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Venue::getVenueId, Function.identity()));
+        return ids.stream()
+            .map(venuesById::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
     /**
-     * Retrieves a venue by its ID.
+     * Retrieves a venue by its ID, from the venue cache when present.
      * 
      * @param id The venue ID
      * @return Optional venue
@@ -79,20 +193,101 @@ public class VenueServiceImpl implements VenueService {
     @Override
     public Optional<Venue> getVenueById(Long id) {
         logger.debug("Getting venue by ID: {}", id);
+        Venue cached = venueCache.get(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        
+        long writes = venueWrites.get();
         Optional<Venue> venue = venueRepository.findById(id);
         if (venue.isPresent()) {
             logger.debug("Venue found: {}", venue.get().getVenueName());
+            if (venueWrites.get() == writes) {
+                venueCache.put(id, copyOf(venue.get()));
+            }
         } else {
             logger.warn("Venue not found with ID: {}", id);
         }
         return venue;
     }
 
+    /**
+     * Returns the counters of the venue caches, keyed by cache name.
+     * 
+     * @return Hit, miss and eviction counts of the by-ID cache and both list snapshots
+     */
+    @Override
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("venuesById", venueCache.stats());
+        stats.put("allVenues", allVenues.stats());
+        stats.put("availableVenues", availableVenues.stats());
+        return stats;
+    }
+
+    /**
+     * Drops a venue and both list snapshots from the cache after a write.
+     * Maintenance/available toggles go through {@link #updateVenueStatus}, which lands here too.
+     * Inside a transaction the entries are dropped again after commit, so a read that
+     * raced the uncommitted write cannot leave the old row cached.
+     */
+    private void invalidate(Long id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void evict(Long id) {
+        venueWrites.incrementAndGet();
+        if (id != null) {
+            venueCache.invalidate(id);
+        }
+        allVenues.invalidate();
+        availableVenues.invalidate();
+    }
+
+    private static List<Venue> copyOf(List<Venue> venues) {
+        return venues.stream().map(VenueServiceImpl::copyOf).collect(Collectors.toList());
+    }
+
+    private static Venue copyOf(Venue venue) {
+        Venue copy = new Venue(venue.getVenueId(), venue.getVenueName(), venue.getLocation(),
+            venue.getCapacity(), venue.getPricePerDay(), venue.getStatus());
+        copy.setImagePath(venue.getImagePath());
+        copy.setThumbnailPath(venue.getThumbnailPath());
+        copy.setCardImagePath(venue.getCardImagePath());
+        copy.setHeroImagePath(venue.getHeroImagePath());
+        copy.setVersion(venue.getVersion());
+        return copy;
+    }
+
     /**
      * Saves a venue (creates or updates).
+     * An update carries the version the edit form was loaded with; if the venue was
+     * changed since, the edit is rejected rather than overwriting the newer change.
      * 
      * @param venue The venue to save
      * @return The saved venue
+     * @throws ConcurrentUpdateException if the venue was changed since it was loaded
      */
     @Override
     public Venue saveVenue(Venue venue) {
@@ -102,11 +297,52 @@ public class VenueServiceImpl implements VenueService {
             logger.info("Updating venue ID: {}, name: {}", venue.getVenueId(), venue.getVenueName());
         }
         
-        Venue savedVenue = venueRepository.save(venue);
+        Venue savedVenue;
+        try {
+            savedVenue = venueRepository.save(venue);
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Venue {} was changed since it was loaded, not saving", venue.getVenueId());
+            invalidate(venue.getVenueId());
+            throw new ConcurrentUpdateException(
+                "This venue was changed by someone else while you were editing it. Please reload and try again.", e);
+        }
+        invalidate(savedVenue.getVenueId());
+        searchIndex.put(savedVenue);
         logger.info("Venue saved successfully with ID: {}", savedVenue.getVenueId());
         return savedVenue;
     }
 
+    /**
+     * Sets a venue's status, e.g. to MAINTENANCE.
+     * Works on the current row rather than a cached copy, and is redone on the new version
+     * if the venue is changed concurrently; setting the status it already has does nothing.
+     * 
+     * @param id The venue ID
+     * @param status The new status
+     * @return The updated venue
+     * @throws ConcurrentUpdateException if the venue kept changing under the update
+     */
+    @Override
+    public Venue updateVenueStatus(Long id, VenueStatus status) {
+        logger.info("Updating venue {} status to {}", id, status);
+        Venue updated = optimisticRetry.execute("Venue #" + id, () -> {
+            Venue venue = venueRepository.findById(id)
+                .orElseThrow(() -> {
+                    logger.error("Venue not found with ID: {}", id);
+                    return new RuntimeException("Venue not found");
+                });
+            if (status != venue.getStatus()) {
+                venue.setStatus(status);
+                venue = venueRepository.save(venue);
+            }
+            return venue;
+        });
+        invalidate(id);
+        searchIndex.put(updated);
+        logger.info("Venue {} status updated to {}", id, status);
+        return updated;
+    }
+
     /**
      * Deletes a venue and all associated bookings.
      * 
@@ -126,23 +362,155 @@ public class VenueServiceImpl implements VenueService {
         // Delete all bookings associated with this venue first
         List<com.venue.management.entity.Booking> bookings = bookingRepository.findByVenue(venue);
         logger.debug("Deleting {} bookings associated with venue ID: {}", bookings.size(), id);
-        bookings.forEach(bookingRepository::delete);
+        bookings.forEach(booking -> {
+            bookingRepository.delete(booking);
+            counters.bookingDeleted(booking.getStatus());
+        });
         
+        daySlotRepository.deleteByVenueId(id);
+
         // Now delete the venue
         venueRepository.deleteById(id);
+        invalidate(id);
+        // A rolled-back delete must leave the venue's bookings blocking it
+        afterCommit(() -> {
+            bookingIndex.removeVenue(id);
+            searchIndex.remove(id);
+        });
         logger.info("Venue {} deleted successfully", id);
     }
 
     /**
-     * Retrieves all available venues.
+     * Counts all venues with a COUNT query; no venue is loaded.
+     * 
+     * @return Number of venues
+     */
+    @Override
+    public long countVenues() {
+        return venueRepository.count();
+    }
+
+    /**
+     * Retrieves the venues that have an image but no resized copies yet.
+     * 
+     * @return Venues whose image variants still need to be generated
+     */
+    @Override
+    public List<Venue> getVenuesMissingImageVariants() {
+        return venueRepository.findMissingImageVariants();
+    }
+
+    /**
+     * Records the resized copies of a venue image.
+     * Nothing is recorded if the venue's image changed while the copies were generated.
+     * 
+     * @param venueId The venue ID
+     * @param imagePath The image the copies were generated from
+     * @param variantPaths Path of each generated copy
+     * @return true if the copies were recorded
+     */
+    @Override
+    @Transactional
+    public boolean recordImageVariants(Long venueId, String imagePath, Map<ImageVariant, String> variantPaths) {
+        int updated = venueRepository.updateImageVariants(venueId, imagePath,
+            variantPaths.get(ImageVariant.THUMBNAIL), variantPaths.get(ImageVariant.CARD),
+            variantPaths.get(ImageVariant.HERO));
+        invalidate(venueId);
+        return updated > 0;
+    }
+
+    /**
+     * Retrieves the venues whose image is still stored by path rather than content hash.
+     * 
+     * @return Venues with images from before the image store
+     */
+    @Override
+    public List<Venue> getVenuesWithLegacyImages() {
+        return venueRepository.findWithLegacyImages();
+    }
+
+    /**
+     * Replaces a venue's image and clears its resized copies.
+     * Nothing changes if the venue's image is no longer the expected one.
+     * 
+     * @param venueId The venue ID
+     * @param oldImage The image expected on the venue
+     * @param newImage The replacement image
+     * @return true if the image was replaced
+     */
+    @Override
+    @Transactional
+    public boolean replaceImage(Long venueId, String oldImage, String newImage) {
+        int updated = venueRepository.replaceImage(venueId, oldImage, newImage);
+        invalidate(venueId);
+        return updated > 0;
+    }
+
+    /**
+     * Retrieves all available venues, from the cached snapshot when present.
      * 
      * @return List of available venues
      */
     @Override
     public List<Venue> getAvailableVenues() {
         logger.debug("Getting available venues");
-        List<Venue> venues = venueRepository.findByStatus("AVAILABLE");
+        List<Venue> venues = copyOf(availableVenues.get(() -> List.copyOf(venueRepository.findByStatus(VenueStatus.AVAILABLE))));
         logger.info("Found {} available venues", venues.size());
         return venues;
     }
+
+    /**
+     * Searches venues that are AVAILABLE, meet the capacity and price constraints,
+     * and have no non-cancelled booking overlapping the whole date range.
+     * Candidate IDs are read in batches from an indexed query that applies the capacity
+     * and price limits, date conflicts are resolved against the in-memory booking index,
+     * and reading stops one free venue past the requested page. A request therefore costs
+     * time proportional to the page's position, not to the venue table. Only the requested
+     * page is loaded.
+     * 
+     * @param from Start date (inclusive)
+     * @param to End date (inclusive)
+     * @param minCapacity Optional minimum capacity
+     * @param maxPrice Optional maximum price per day
+     * @param pageable Pagination and sorting parameters
+     * @return Page of venues free for the whole range; unless this is the last page, the
+     *         total counts the venues found so far, which is enough to link the next page
+     */
+    @Override
+    public Page<Venue> searchAvailableVenues(LocalDate from, LocalDate to, Integer minCapacity, Double maxPrice,
+                                             Pageable pageable) {
+        logger.debug("Searching venues free from {} to {} with minCapacity: {}, maxPrice: {}",
+            from, to, minCapacity, maxPrice);
+        
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new RuntimeException("A valid date range is required.");
+        }
+        
+        // The sort comes from request parameters
+        Sort sort = VENUE_SORTS.apply(pageable).getSort();
+        long wanted = pageable.getOffset() + pageable.getPageSize() + 1;
+        List<Long> freeIds = new ArrayList<>();
+        for (int batch = 0; freeIds.size() < wanted; batch++) {
+            List<Long> candidates = venueRepository.findAvailableVenueIds(minCapacity, maxPrice,
+                PageRequest.of(batch, AVAILABILITY_BATCH_SIZE, sort));
+            for (Long id : candidates) {
+                if (freeIds.size() < wanted && !bookingIndex.hasOverlap(id, from, to)) {
+                    freeIds.add(id);
+                }
+            }
+            if (candidates.size() < AVAILABILITY_BATCH_SIZE) {
+                break;
+            }
+        }
+        
+        int start = (int) Math.min(pageable.getOffset(), freeIds.size());
+        int end = Math.min(start + pageable.getPageSize(), freeIds.size());
+        List<Long> pageIds = freeIds.subList(start, end);
+        
+        // Hydrate the page in one query and restore the sort order
+        List<Venue> content = hydrate(pageIds);
+        
+        logger.info("Found {} venues free from {} to {}", freeIds.size(), from, to);
+        return new PageImpl<>(content, pageable, freeIds.size());
+    }
 }
@@ -0,0 +1,173 @@
+package com.venue.management.service.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongPredicate;
+
+/**
+ * Interval tree over closed day ranges, keyed by booking ID.
+ * Implemented as a treap ordered by (start, id) where every node also tracks the
+ * largest end value in its subtree, so overlap queries, inserts and removals
+ * all run in expected O(log n).
+ *
+ * Not thread-safe; callers synchronize on the tree.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class IntervalTree {
+
+    private static final class Node {
+        final long id;
+        final long start;
+        final long end;
+        final int priority;
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node root;
+    private final Map<Long, Node> nodesById = new HashMap<>();
+
+    /**
+     * Adds an interval, replacing any previous interval stored under the same ID.
+     */
+    void put(long id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end);
+        Node[] parts = split(root, start, id);
+        root = merge(merge(parts[0], node), parts[1]);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * Removes the interval stored under the given ID, if any.
+     */
+    boolean remove(long id) {
+        Node node = nodesById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        Node[] lower = split(root, node.start, node.id);
+        Node[] upper = split(lower[1], node.start, node.id + 1);
+        root = merge(lower[0], upper[1]);
+        return true;
+    }
+
+    /**
+     * Returns the IDs of the stored intervals.
+     */
+    Set<Long> ids() {
+        return nodesById.keySet();
+    }
+
+    /**
+     * Checks whether any stored interval overlaps the closed range [start, end].
+     */
+    boolean overlaps(long start, long end) {
+        Node x = root;
+        while (x != null) {
+            if (x.start <= end && x.end >= start) {
+                return true;
+            }
+            if (x.left != null && x.left.maxEnd >= start) {
+                x = x.left;
+            } else {
+                if (x.start > end) {
+                    return false;
+                }
+                x = x.right;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any stored interval other than the skipped ones overlaps the closed range
+     * [start, end]. Visits every overlapping interval in the worst case.
+     */
+    boolean overlaps(long start, long end, LongPredicate skip) {
+        return overlaps(root, start, end, skip);
+    }
+
+    private static boolean overlaps(Node x, long start, long end, LongPredicate skip) {
+        if (x == null || x.maxEnd < start) {
+            return false;
+        }
+        if (x.start <= end && x.end >= start && !skip.test(x.id)) {
+            return true;
+        }
+        // Nodes on the right start no earlier than x
+        return overlaps(x.left, start, end, skip) || (x.start <= end && overlaps(x.right, start, end, skip));
+    }
+
+    boolean contains(long id) {
+        return nodesById.containsKey(id);
+    }
+
+    int size() {
+        return nodesById.size();
+    }
+
+    boolean isEmpty() {
+        return nodesById.isEmpty();
+    }
+
+    /**
+     * Splits the tree into nodes ordered strictly before (start, id) and the rest.
+     */
+    private static Node[] split(Node t, long start, long id) {
+        if (t == null) {
+            return new Node[] { null, null };
+        }
+        if (t.start < start || (t.start == start && t.id < id)) {
+            Node[] parts = split(t.right, start, id);
+            t.right = parts[0];
+            update(t);
+            return new Node[] { t, parts[1] };
+        }
+        Node[] parts = split(t.left, start, id);
+        t.left = parts[1];
+        update(t);
+        return new Node[] { parts[0], t };
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static void update(Node t) {
+        long max = t.end;
+        if (t.left != null && t.left.maxEnd > max) {
+            max = t.left.maxEnd;
+        }
+        if (t.right != null && t.right.maxEnd > max) {
+            max = t.right.maxEnd;
+        }
+        t.maxEnd = max;
+    }
+}
@@ -0,0 +1,81 @@
+package com.venue.management.service.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text into index terms: lower-cases, splits on anything that is not a letter
+ * or digit, drops common English stop words and applies a light suffix stemmer, so
+ * "refunds", "refunded" and "refunding" all become "refund".
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "i",
+        "in", "is", "it", "its", "me", "my", "no", "not", "of", "on", "or", "our", "so", "that",
+        "the", "their", "this", "to", "was", "we", "were", "will", "with", "you", "your");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Analyzes a text into its terms, in order and with repeats.
+     *
+     * @param text The text; null is treated as empty
+     * @return The terms
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Strips common inflectional suffixes in the spirit of Porter's first step: plurals,
+     * then -ing/-ed/-ly, then a silent e and a doubled final consonant. Words of three
+     * letters or fewer and tokens ending in a digit are left alone.
+     */
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word;
+        }
+        String stem = word;
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("ing") && stem.length() > 5) {
+            stem = stem.substring(0, stem.length() - 3);
+        } else if (stem.endsWith("ed") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ly") && stem.length() > 5) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+
+        // "charge"/"charged" -> "charg", "cancelled"/"cancel" -> "cancel"
+        if (stem.endsWith("e") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        int n = stem.length();
+        if (n > 3 && stem.charAt(n - 1) == stem.charAt(n - 2) && "aeious".indexOf(stem.charAt(n - 1)) < 0) {
+            stem = stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+}
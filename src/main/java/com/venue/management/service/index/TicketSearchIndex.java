@@ -0,0 +1,213 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.SupportTicket;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.projection.TicketText;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory full-text index of support tickets, ranked with Okapi BM25.
+ * Indexes the issue description, issue type, resolution notes and the customer's username,
+ * so ticket searches never scan the TEXT columns of the tickets table.
+ *
+ * The index is loaded at startup, kept current by the support ticket service and can be
+ * rebuilt from the table at any time.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class TicketSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketSearchIndex.class);
+
+    // Standard BM25 parameters: term-frequency saturation and length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Autowired
+    private SupportTicketRepository supportTicketRepository;
+
+    // term -> (ticket ID -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // ticket ID -> (term -> term frequency), used to unindex a ticket
+    private final Map<Long, Map<String, Integer>> termsByTicket = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    // ticket ID -> customer ID, so a customer's search ranks only their own tickets
+    private final Map<Long, Long> owners = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Rebuilds the whole index from the support tickets table.
+     */
+    @PostConstruct
+    public void rebuild() {
+        List<TicketText> texts = supportTicketRepository.findSearchTexts();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByTicket.clear();
+            lengths.clear();
+            owners.clear();
+            totalLength = 0;
+            for (TicketText text : texts) {
+                index(text.getTicketId(), text.getCustomerId(), TextAnalyzer.analyze(join(text.getIssueDescription(),
+                    text.getIssueType(), text.getResolutionNotes(), text.getUsername())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Ticket search index built with {} tickets and {} terms", texts.size(), postings.size());
+    }
+
+    /**
+     * Records or refreshes a ticket.
+     *
+     * @param ticket The ticket to index; its customer must be loaded
+     */
+    public void put(SupportTicket ticket) {
+        String username = ticket.getCustomer() != null ? ticket.getCustomer().getUsername() : null;
+        Long ownerId = ticket.getCustomer() != null ? ticket.getCustomer().getUserId() : null;
+        List<String> terms = TextAnalyzer.analyze(join(ticket.getIssueDescription(), ticket.getIssueType(),
+            ticket.getResolutionNotes(), username));
+        lock.writeLock().lock();
+        try {
+            unindex(ticket.getTicketId());
+            index(ticket.getTicketId(), ownerId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a ticket from the index.
+     *
+     * @param ticketId The ticket ID
+     */
+    public void remove(Long ticketId) {
+        lock.writeLock().lock();
+        try {
+            unindex(ticketId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tickets matching any term of the query, most relevant first.
+     *
+     * @param query The search query
+     * @param limit Maximum number of ticket IDs to return
+     * @return Matching ticket IDs by descending BM25 score, ties broken by newest ID
+     */
+    public List<Long> search(String query, int limit) {
+        return search(query, null, limit);
+    }
+
+    /**
+     * Finds one customer's tickets matching any term of the query, most relevant first.
+     * Other customers' tickets are skipped before ranking, so they never push the
+     * customer's own tickets past the limit.
+     *
+     * @param query The search query
+     * @param ownerId The customer ID, or null for all tickets
+     * @param limit Maximum number of ticket IDs to return
+     * @return Matching ticket IDs by descending BM25 score, ties broken by newest ID
+     */
+    public List<Long> search(String query, Long ownerId, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.analyze(query)));
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documents = lengths.size();
+            double averageLength = documents == 0 ? 0 : (double) totalLength / documents;
+            for (String term : queryTerms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                for (Map.Entry<Long, Integer> posting : postingList.entrySet()) {
+                    if (ownerId != null && !ownerId.equals(owners.get(posting.getKey()))) {
+                        continue;
+                    }
+                    int tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * lengths.get(posting.getKey()) / averageLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort((a, b) -> {
+            int byScore = Double.compare(scores.get(b), scores.get(a));
+            return byScore != 0 ? byScore : Long.compare(b, a);
+        });
+        logger.debug("Ticket search '{}' matched {} tickets", query, ranked.size());
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    private void index(Long ticketId, Long ownerId, List<String> terms) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        termsByTicket.put(ticketId, frequencies);
+        lengths.put(ticketId, terms.size());
+        if (ownerId != null) {
+            owners.put(ticketId, ownerId);
+        }
+        totalLength += terms.size();
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(ticketId, entry.getValue());
+        }
+    }
+
+    private void unindex(Long ticketId) {
+        Map<String, Integer> frequencies = termsByTicket.remove(ticketId);
+        if (frequencies == null) {
+            return;
+        }
+        totalLength -= lengths.remove(ticketId);
+        owners.remove(ticketId);
+        for (String term : frequencies.keySet()) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(ticketId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static String join(String... parts) {
+        StringBuilder text = new StringBuilder();
+        for (String part : parts) {
+            if (part != null) {
+                text.append(part).append(' ');
+            }
+        }
+        return text.toString();
+    }
+}
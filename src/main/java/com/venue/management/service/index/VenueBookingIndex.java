@@ -0,0 +1,157 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.projection.BookingInterval;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of the date ranges of bookings holding their venue, one interval tree per venue.
+ * Answers "does [from, to] overlap an existing booking on venue X" in O(log n)
+ * without touching the bookings table. Holds are indexed with their expiry and stop
+ * counting as soon as it passes, before the hold scheduler releases them.
+ *
+ * The index is loaded at startup and kept current by the booking and venue services.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class VenueBookingIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(VenueBookingIndex.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final ConcurrentMap<Long, IntervalTree> trees = new ConcurrentHashMap<>();
+
+    // Expiry (epoch millis) of each indexed hold, by booking ID
+    private final ConcurrentMap<Long, Long> holdExpiries = new ConcurrentHashMap<>();
+
+    /**
+     * Rebuilds the whole index from the bookings table.
+     */
+    @PostConstruct
+    public void rebuild() {
+        List<BookingInterval> intervals = bookingRepository.findActiveIntervals();
+        trees.clear();
+        holdExpiries.clear();
+        for (BookingInterval interval : intervals) {
+            put(interval.getVenueId(), interval.getBookingId(), interval.getEventDate(), interval.getEndDate());
+            setHoldExpiry(interval.getBookingId(), interval.getHoldExpiresAt());
+        }
+        logger.info("Booking index built with {} bookings across {} venues", intervals.size(), trees.size());
+    }
+
+    /**
+     * Checks whether the given date range overlaps a booking holding the venue.
+     * Holds past their expiry are skipped.
+     *
+     * @param venueId The venue ID
+     * @param from Start date (inclusive)
+     * @param to End date (inclusive); the start date is used when null
+     * @return true if the range overlaps an existing booking
+     */
+    public boolean hasOverlap(Long venueId, LocalDate from, LocalDate to) {
+        IntervalTree tree = trees.get(venueId);
+        if (tree == null) {
+            return false;
+        }
+        long start = from.toEpochDay();
+        long end = (to != null ? to : from).toEpochDay();
+        synchronized (tree) {
+            if (holdExpiries.isEmpty()) {
+                return tree.overlaps(start, end);
+            }
+            long now = System.currentTimeMillis();
+            return tree.overlaps(start, end, id -> {
+                Long expiry = holdExpiries.get(id);
+                return expiry != null && expiry <= now;
+            });
+        }
+    }
+
+    /**
+     * Records or refreshes a booking. Cancelled and expired bookings are removed instead.
+     *
+     * @param booking The booking to index
+     */
+    public void add(Booking booking) {
+        if (!booking.getStatus().isActive()) {
+            remove(booking);
+            return;
+        }
+        // Expiry first, so a hold is never briefly indexed as a permanent booking
+        setHoldExpiry(booking.getBookingId(), booking.getStatus() == BookingStatus.HELD ? booking.getHoldExpiresAt() : null);
+        put(booking.getVenue().getVenueId(), booking.getBookingId(), booking.getEventDate(), booking.getEndDate());
+    }
+
+    /**
+     * Removes a booking from the index.
+     *
+     * @param booking The booking to remove
+     */
+    public void remove(Booking booking) {
+        remove(booking.getVenue().getVenueId(), booking.getBookingId());
+    }
+
+    /**
+     * Removes a booking from the index.
+     *
+     * @param venueId The booking's venue ID
+     * @param bookingId The booking ID
+     */
+    public void remove(Long venueId, Long bookingId) {
+        IntervalTree tree = trees.get(venueId);
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(bookingId);
+            }
+        }
+        holdExpiries.remove(bookingId);
+    }
+
+    /**
+     * Drops every booking held for a venue.
+     *
+     * @param venueId The venue ID
+     */
+    public void removeVenue(Long venueId) {
+        IntervalTree tree = trees.remove(venueId);
+        if (tree != null) {
+            synchronized (tree) {
+                holdExpiries.keySet().removeAll(tree.ids());
+            }
+        }
+    }
+
+    private void setHoldExpiry(Long bookingId, LocalDateTime expiresAt) {
+        if (expiresAt != null) {
+            holdExpiries.put(bookingId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        } else {
+            holdExpiries.remove(bookingId);
+        }
+    }
+
+    private void put(Long venueId, Long bookingId, LocalDate from, LocalDate to) {
+        IntervalTree tree = trees.computeIfAbsent(venueId, id -> new IntervalTree());
+        long start = from.toEpochDay();
+        long end = (to != null ? to : from).toEpochDay();
+        synchronized (tree) {
+            tree.put(bookingId, start, end);
+        }
+    }
+}
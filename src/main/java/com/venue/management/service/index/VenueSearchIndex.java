@@ -0,0 +1,232 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.repository.projection.VenueText;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over venue name, location and status.
+ * A search reads only the posting lists of the query's trigrams, so its cost depends on
+ * the number of matching venues rather than on the size of the venues table.
+ *
+ * Text is lower-cased and each word is padded with a leading space, so one- and two-letter
+ * queries match word prefixes and longer queries match anywhere in the text.
+ *
+ * The index is loaded at startup and kept current by the venue service.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class VenueSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(VenueSearchIndex.class);
+
+    private static final int GRAM = 3;
+
+    // Share of the query's trigrams a venue must contain; below 1 tolerates a typo in longer queries
+    private static final double MIN_MATCH = 0.75;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> gramsByVenue = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Rebuilds the whole index from the venues table.
+     */
+    @PostConstruct
+    public void rebuild() {
+        List<VenueText> texts = venueRepository.findSearchTexts();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            gramsByVenue.clear();
+            for (VenueText text : texts) {
+                index(text.getVenueId(), grams(join(text.getVenueName(), text.getLocation(), text.getStatus())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Venue search index built with {} venues and {} trigrams", texts.size(), postings.size());
+    }
+
+    /**
+     * Records or refreshes a venue.
+     *
+     * @param venue The venue to index
+     */
+    public void put(Venue venue) {
+        Set<String> grams = grams(join(venue.getVenueName(), venue.getLocation(), venue.getStatus()));
+        lock.writeLock().lock();
+        try {
+            unindex(venue.getVenueId());
+            index(venue.getVenueId(), grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a venue from the index.
+     *
+     * @param venueId The venue ID
+     */
+    public void remove(Long venueId) {
+        lock.writeLock().lock();
+        try {
+            unindex(venueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the venues matching a search term, best match first.
+     * Venues are ranked by how many of the query's trigrams they contain, then by how
+     * little other text they hold (an exact name beats a long description), then by ID.
+     *
+     * @param term The search term
+     * @return Matching venue IDs in rank order
+     */
+    public List<Long> search(String term) {
+        String text = normalize(term);
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> queryGrams = queryGrams(text);
+        int required = queryGrams.size() <= 2 ? queryGrams.size() : (int) Math.ceil(queryGrams.size() * MIN_MATCH);
+
+        Map<Long, Integer> hits = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String gram : queryGrams) {
+                for (Long venueId : matching(gram)) {
+                    hits.merge(venueId, 1, Integer::sum);
+                }
+            }
+            hits.keySet().removeIf(venueId -> hits.get(venueId) < required);
+            for (Long venueId : hits.keySet()) {
+                sizes.put(venueId, gramsByVenue.get(venueId).size());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = new ArrayList<>(hits.keySet());
+        ranked.sort((a, b) -> {
+            int byHits = Integer.compare(hits.get(b), hits.get(a));
+            if (byHits != 0) {
+                return byHits;
+            }
+            int bySize = Integer.compare(sizes.get(a), sizes.get(b));
+            return bySize != 0 ? bySize : Long.compare(a, b);
+        });
+        logger.debug("Venue search '{}' matched {} venues", term, ranked.size());
+        return ranked;
+    }
+
+    /**
+     * Venues holding a query trigram. A single-letter query is padded to " x" and
+     * matches every word-initial trigram that starts with it.
+     */
+    private Set<Long> matching(String gram) {
+        if (gram.length() == GRAM) {
+            return postings.getOrDefault(gram, Collections.emptySet());
+        }
+        Set<Long> venueIds = new HashSet<>();
+        for (Map.Entry<String, Set<Long>> entry : postings.entrySet()) {
+            if (entry.getKey().startsWith(gram)) {
+                venueIds.addAll(entry.getValue());
+            }
+        }
+        return venueIds;
+    }
+
+    private void index(Long venueId, Set<String> grams) {
+        gramsByVenue.put(venueId, grams);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(venueId);
+        }
+    }
+
+    private void unindex(Long venueId) {
+        Set<String> grams = gramsByVenue.remove(venueId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<Long> venueIds = postings.get(gram);
+            if (venueIds != null) {
+                venueIds.remove(venueId);
+                if (venueIds.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Trigrams of indexed text, with every word preceded by a space.
+     */
+    static Set<String> grams(String text) {
+        String padded = " " + normalize(text) + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * Trigrams of a query. Short queries are anchored at a word start: "gr" becomes " gr"
+     * and "g" becomes the prefix " g".
+     */
+    static List<String> queryGrams(String text) {
+        if (text.length() < GRAM) {
+            return List.of(" " + text);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static String join(Object... parts) {
+        StringBuilder text = new StringBuilder();
+        for (Object part : parts) {
+            if (part != null) {
+                text.append(part).append(' ');
+            }
+        }
+        return text.toString();
+    }
+}
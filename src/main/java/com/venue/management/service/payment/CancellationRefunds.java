@@ -0,0 +1,38 @@
+package com.venue.management.service.payment;
+
+import com.venue.management.event.BookingCancelled;
+import com.venue.management.event.DomainEvent;
+import com.venue.management.event.DomainEventConsumer;
+import com.venue.management.service.PaymentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Refunds the payment of every cancelled booking. Refunding only changes a SUCCESS
+ * payment, so a redelivered event does nothing.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class CancellationRefunds implements DomainEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellationRefunds.class);
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof BookingCancelled cancelled) {
+                logger.info("Processing refund for cancelled booking: {}", cancelled.bookingId());
+                paymentService.refundPayment(cancelled.bookingId());
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.venue.management.service.payment;
+
+/**
+ * A charge sent to the payment gateway.
+ *
+ * @param reference Identifies the charge at the gateway; the same for every retry
+ * @param paymentId The payment being charged
+ * @param bookingId The booking being paid
+ * @param amount Amount to charge
+ */
+public record ChargeRequest(String reference, Long paymentId, Long bookingId, double amount) {
+
+    public static ChargeRequest forPayment(Long paymentId, Long bookingId, double amount) {
+        return new ChargeRequest("payment-" + paymentId, paymentId, bookingId, amount);
+    }
+}
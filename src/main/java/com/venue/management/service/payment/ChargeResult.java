@@ -0,0 +1,19 @@
+package com.venue.management.service.payment;
+
+/**
+ * The gateway's answer to a charge.
+ *
+ * @param approved Whether the charge was approved
+ * @param transactionId Gateway transaction ID of an approved charge
+ * @param declineReason Why a charge was declined
+ */
+public record ChargeResult(boolean approved, String transactionId, String declineReason) {
+
+    public static ChargeResult approved(String transactionId) {
+        return new ChargeResult(true, transactionId, null);
+    }
+
+    public static ChargeResult declined(String reason) {
+        return new ChargeResult(false, null, reason);
+    }
+}
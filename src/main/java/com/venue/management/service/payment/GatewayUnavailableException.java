@@ -0,0 +1,13 @@
+package com.venue.management.service.payment;
+
+/**
+ * A transient gateway failure; the charge may be retried.
+ */
+public class GatewayUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public GatewayUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.venue.management.service.payment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service provider interface of a payment processor.
+ *
+ * Implementations must not block the calling thread: the charge is started and a
+ * future is returned, completed later with the processor's answer. Transient problems
+ * (processor down, overloaded) complete the future with {@link GatewayUnavailableException},
+ * which {@link PaymentGatewayClient} retries; a decline is a normal result and is not retried.
+ * Charges carry a reference that stays the same across retries, so the processor can
+ * recognise a repeated charge.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+public interface PaymentGateway {
+
+    /**
+     * Starts a charge.
+     *
+     * @param request The charge to make
+     * @return Future completed with the processor's answer
+     */
+    CompletableFuture<ChargeResult> charge(ChargeRequest request);
+}
@@ -0,0 +1,124 @@
+package com.venue.management.service.payment;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Calls the configured {@link PaymentGateway} with the protections a remote processor needs:
+ * <ul>
+ *   <li>a timeout on every call,</li>
+ *   <li>a bulkhead limiting calls in flight; when it is full the call fails fast instead of queueing,</li>
+ *   <li>retries of transient failures (timeouts, unavailable, bulkhead full) with exponential
+ *       backoff and jitter. Declines are final.</li>
+ * </ul>
+ * Nothing blocks: waits between retries are scheduled, and the returned future completes
+ * with the final answer or the last failure.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class PaymentGatewayClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentGatewayClient.class);
+
+    private final PaymentGateway gateway;
+    private final long timeoutMs;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Semaphore bulkhead;
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payment-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PaymentGatewayClient(PaymentGateway gateway,
+                                @Value("${payments.gateway.timeout-ms:5000}") long timeoutMs,
+                                @Value("${payments.gateway.max-concurrent:16}") int maxConcurrent,
+                                @Value("${payments.gateway.max-attempts:3}") int maxAttempts,
+                                @Value("${payments.gateway.backoff-ms:500}") long backoffMs) {
+        this.gateway = gateway;
+        this.timeoutMs = timeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.bulkhead = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Charges through the gateway.
+     *
+     * @param request The charge to make
+     * @return Future completed with the gateway's answer, or exceptionally once retries are exhausted
+     */
+    public CompletableFuture<ChargeResult> charge(ChargeRequest request) {
+        CompletableFuture<ChargeResult> result = new CompletableFuture<>();
+        attempt(request, 1, result);
+        return result;
+    }
+
+    private void attempt(ChargeRequest request, int attempt, CompletableFuture<ChargeResult> result) {
+        if (!bulkhead.tryAcquire()) {
+            retryOrFail(request, attempt, result, new GatewayUnavailableException("Too many gateway calls in flight"));
+            return;
+        }
+
+        CompletableFuture<ChargeResult> call;
+        try {
+            call = gateway.charge(request);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            retryOrFail(request, attempt, result, e);
+            return;
+        }
+        // On timeout the permit is returned although the gateway may still be working;
+        // the bulkhead bounds the calls we wait for, not the gateway's own load
+        call.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((answer, error) -> {
+            bulkhead.release();
+            if (error == null) {
+                result.complete(answer);
+            } else {
+                retryOrFail(request, attempt, result, unwrap(error));
+            }
+        });
+    }
+
+    private void retryOrFail(ChargeRequest request, int attempt, CompletableFuture<ChargeResult> result,
+                             Throwable error) {
+        if (attempt >= maxAttempts || !isTransient(error)) {
+            logger.error("Charge {} failed after {} attempt(s): {}", request.reference(), attempt, error.toString());
+            result.completeExceptionally(error);
+            return;
+        }
+        long backoff = backoffMs << (attempt - 1);
+        long delay = backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        logger.warn("Charge {} attempt {} failed ({}), retrying in {} ms",
+            request.reference(), attempt, error.toString(), delay);
+        retryTimer.schedule(() -> attempt(request, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isTransient(Throwable error) {
+        return error instanceof GatewayUnavailableException || error instanceof TimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryTimer.shutdownNow();
+    }
+}
@@ -0,0 +1,170 @@
+package com.venue.management.service.payment;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.Payment;
+import com.venue.management.entity.PaymentStatus;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.event.PaymentProcessed;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import com.venue.management.scheduler.BookingHoldScheduler;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Moves PENDING payments to SUCCESS or FAILED once the gateway answers.
+ *
+ * A payment is saved as PENDING by the request, and the charge starts only after that
+ * transaction commits, so no request thread or transaction waits for the gateway.
+ * The answer is applied in its own transaction on the payment executor: an approved
+ * charge confirms the booking, a declined or failed one puts it back on a fresh hold so
+ * the customer can pay again. Payments still PENDING at startup are charged again; the
+ * gateway reference is the same, so a charge that already went through is not repeated.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class PaymentProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentProcessor.class);
+
+    @Autowired
+    private PaymentGatewayClient gatewayClient;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DashboardCounters counters;
+
+    @Autowired
+    private VenueBookingIndex bookingIndex;
+
+    @Autowired
+    private BookingHoldScheduler holdScheduler;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    @Qualifier("paymentExecutor")
+    private ThreadPoolTaskExecutor paymentExecutor;
+
+    /**
+     * Charges a saved PENDING payment once the current transaction commits.
+     *
+     * @param payment The pending payment
+     */
+    public void submit(Payment payment) {
+        ChargeRequest request = ChargeRequest.forPayment(payment.getPaymentId(),
+            payment.getBooking().getBookingId(), payment.getPaymentAmount());
+        afterCommit(() -> charge(request));
+    }
+
+    /**
+     * Charges the payments left PENDING by a previous run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<Payment> pending = paymentRepository.findByPaymentStatus(PaymentStatus.PENDING);
+        if (!pending.isEmpty()) {
+            logger.info("Resuming {} pending payments", pending.size());
+        }
+        pending.forEach(this::submit);
+    }
+
+    private void charge(ChargeRequest request) {
+        logger.info("Charging {} for booking {}", request.reference(), request.bookingId());
+        gatewayClient.charge(request).whenCompleteAsync((result, error) -> {
+            try {
+                complete(request, result != null && result.approved(),
+                    result != null ? result.declineReason() : String.valueOf(error));
+            } catch (RuntimeException e) {
+                // Left PENDING; charged again at the next startup
+                logger.error("Error recording the result of {}: {}", request.reference(), e.getMessage(), e);
+            }
+        }, paymentExecutor);
+    }
+
+    /**
+     * Records the gateway's answer, unless the payment is no longer PENDING.
+     * Redone on fresh data if the payment or booking changed meanwhile, e.g. a cancellation.
+     */
+    void complete(ChargeRequest request, boolean approved, String reason) {
+        optimisticRetry.execute("Payment #" + request.paymentId(), () -> {
+            Payment payment = paymentRepository.findById(request.paymentId()).orElse(null);
+            if (payment == null || payment.getPaymentStatus() != PaymentStatus.PENDING) {
+                logger.warn("Payment {} is no longer pending, ignoring the gateway answer", request.paymentId());
+                return null;
+            }
+            Booking booking = payment.getBooking();
+            PaymentStatus paymentStatus;
+            if (!approved) {
+                paymentStatus = PaymentStatus.FAILED;
+                logger.warn("Payment {} failed: {}", payment.getPaymentId(), reason);
+                if (booking.getStatus() == BookingStatus.PENDING) {
+                    // Held again for a while, so the customer can retry with another card
+                    holdScheduler.hold(booking);
+                    bookingRepository.save(booking);
+                    // A rolled-back or retried attempt leaves the index and timers as they were
+                    afterCommit(() -> {
+                        bookingIndex.add(booking);
+                        holdScheduler.track(booking);
+                    });
+                    counters.bookingChanged(BookingStatus.PENDING, BookingStatus.HELD);
+                }
+            } else if (booking.getStatus().canMoveTo(BookingStatus.CONFIRMED)) {
+                paymentStatus = PaymentStatus.SUCCESS;
+                BookingStatus previousStatus = booking.getStatus();
+                booking.setStatus(BookingStatus.CONFIRMED);
+                bookingRepository.save(booking);
+                counters.bookingChanged(previousStatus, BookingStatus.CONFIRMED);
+            } else {
+                // Cancelled while the charge was in flight
+                paymentStatus = PaymentStatus.REFUNDED;
+                logger.info("Booking {} is {} after payment, refunding", booking.getBookingId(), booking.getStatus());
+            }
+            payment.setPaymentStatus(paymentStatus);
+            paymentRepository.save(payment);
+            counters.paymentChanged(PaymentStatus.PENDING, paymentStatus, payment.getPaymentAmount());
+            eventPublisher.publish(new PaymentProcessed(payment.getPaymentId(), booking.getBookingId(),
+                paymentStatus, payment.getPaymentAmount()));
+            logger.info("Payment {} is {}", payment.getPaymentId(), paymentStatus);
+            return paymentStatus;
+        });
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
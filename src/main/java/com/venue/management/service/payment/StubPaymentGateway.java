@@ -0,0 +1,73 @@
+package com.venue.management.service.payment;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a payment processor, used until a real one is configured.
+ * Answers after a configurable latency (without holding a thread meanwhile) and fails
+ * or declines a configurable share of charges, to exercise timeouts, retries and the
+ * FAILED path.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "payments.gateway.provider", havingValue = "stub", matchIfMissing = true)
+public class StubPaymentGateway implements PaymentGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubPaymentGateway.class);
+
+    private final long latencyMs;
+    private final double failureRate;
+    private final double declineRate;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stub-gateway");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StubPaymentGateway(@Value("${payments.gateway.stub.latency-ms:300}") long latencyMs,
+                              @Value("${payments.gateway.stub.failure-rate:0.0}") double failureRate,
+                              @Value("${payments.gateway.stub.decline-rate:0.0}") double declineRate) {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        this.declineRate = declineRate;
+    }
+
+    @Override
+    public CompletableFuture<ChargeResult> charge(ChargeRequest request) {
+        CompletableFuture<ChargeResult> result = new CompletableFuture<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Latency varies by up to half either way
+        long delay = latencyMs > 0 ? latencyMs / 2 + random.nextLong(latencyMs + 1) : 0;
+        double roll = random.nextDouble();
+        timer.schedule(() -> {
+            if (roll < failureRate) {
+                logger.debug("Stub gateway failing charge {}", request.reference());
+                result.completeExceptionally(new GatewayUnavailableException("Stub gateway unavailable"));
+            } else if (roll < failureRate + declineRate) {
+                result.complete(ChargeResult.declined("Declined by stub gateway"));
+            } else {
+                result.complete(ChargeResult.approved("stub-" + UUID.randomUUID()));
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.venue.management.service.retry;
+
+import com.venue.management.exception.ConcurrentUpdateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs state transitions of versioned entities, redoing them when they lose a race.
+ *
+ * Each attempt runs in its own transaction and must load what it changes, so a retry sees
+ * the version that won. Transitions have to be idempotent: one that finds the record
+ * already in the target state does nothing. After the last attempt the conflict is
+ * reported as a {@link ConcurrentUpdateException}, which controllers show like any
+ * other error.
+ *
+ * Called inside a transaction, the transition joins it and runs once; the conflict of
+ * an outer transaction can only be retried by its owner.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${optimistic-lock.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${optimistic-lock.backoff-ms:20}")
+    private long backoffMs;
+
+    /**
+     * Runs a transition, retrying it on an optimistic locking conflict.
+     *
+     * @param what What is being changed, e.g. "Booking #42", for the log and the error message
+     * @param transition Loads and changes the entity; runs once per attempt
+     * @return Result of the successful attempt
+     * @throws ConcurrentUpdateException if every attempt lost to a concurrent update
+     */
+    public <T> T execute(String what, Supplier<T> transition) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return transition.get();
+            } catch (OptimisticLockingFailureException e) {
+                throw conflict(what, e);
+            }
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> transition.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw conflict(what, e);
+                }
+                logger.debug("Concurrent update of {} (attempt {}), retrying", what, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private ConcurrentUpdateException conflict(String what, OptimisticLockingFailureException e) {
+        logger.warn("Giving up on {} after concurrent updates: {}", what, e.getMessage());
+        return new ConcurrentUpdateException(
+            what + " was changed by someone else at the same time. Please reload and try again.", e);
+    }
+
+    /**
+     * Backs off with jitter, so two transitions that collided do not collide again.
+     */
+    private void pause(int attempt) {
+        long delay = backoffMs * attempt;
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Interrupted while retrying an update.", e);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.venue.management.service.stats;
+
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.PaymentStatus;
+import com.venue.management.entity.TicketStatus;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.projection.StatusCount;
+import com.venue.management.repository.projection.StatusTotal;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory dashboard counters: payments (count and amount) by status, bookings by status
+ * and support tickets by status. Dashboards read these instead of running aggregate queries.
+ *
+ * The counters are loaded at startup and kept current by the payment, booking and support
+ * ticket services. Changes made inside a transaction are applied only after it commits.
+ * A periodic reconciliation reloads them from the database, so writes that bypass the
+ * services (bulk updates, manual SQL) are corrected within one interval.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounters.class);
+
+    // Key used for rows whose status column is NULL
+    private static final String NO_STATUS = "";
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SupportTicketRepository supportTicketRepository;
+
+    private volatile Map<String, LongAdder> paymentCounts = new ConcurrentHashMap<>();
+    private volatile Map<String, DoubleAdder> paymentTotals = new ConcurrentHashMap<>();
+    private volatile Map<String, LongAdder> bookingCounts = new ConcurrentHashMap<>();
+    private volatile Map<String, LongAdder> ticketCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Reloads all counters from the database.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile-interval-ms:600000}",
+        initialDelayString = "${dashboard.counters.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        reconcilePayments();
+        reconcileBookings();
+        reconcileTickets();
+    }
+
+    /**
+     * Reloads the payment counters with one GROUP BY query.
+     */
+    public void reconcilePayments() {
+        List<StatusTotal> totals = paymentRepository.sumByPaymentStatus();
+        Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        Map<String, DoubleAdder> amounts = new ConcurrentHashMap<>();
+        for (StatusTotal total : totals) {
+            adder(counts, total.getStatus()).add(total.getCount());
+            amount(amounts, total.getStatus()).add(total.getTotal() != null ? total.getTotal() : 0.0);
+        }
+        logDrift("payments", paymentCounts, counts);
+        paymentCounts = counts;
+        paymentTotals = amounts;
+    }
+
+    /**
+     * Reloads the booking counters with one GROUP BY query.
+     * Called after bulk status updates, which do not report the statuses they replaced.
+     */
+    public void reconcileBookings() {
+        Map<String, LongAdder> counts = toAdders(bookingRepository.countByStatus());
+        logDrift("bookings", bookingCounts, counts);
+        bookingCounts = counts;
+    }
+
+    /**
+     * Reloads the support ticket counters with one GROUP BY query.
+     */
+    public void reconcileTickets() {
+        Map<String, LongAdder> counts = toAdders(supportTicketRepository.countByStatus());
+        logDrift("tickets", ticketCounts, counts);
+        ticketCounts = counts;
+    }
+
+    /**
+     * Records a new payment.
+     */
+    public void paymentCreated(PaymentStatus status, double amount) {
+        afterCommit(() -> {
+            adder(paymentCounts, status).increment();
+            amount(paymentTotals, status).add(amount);
+        });
+    }
+
+    /**
+     * Records a payment status change.
+     */
+    public void paymentChanged(PaymentStatus from, PaymentStatus to, double amount) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        afterCommit(() -> {
+            adder(paymentCounts, from).decrement();
+            amount(paymentTotals, from).add(-amount);
+            adder(paymentCounts, to).increment();
+            amount(paymentTotals, to).add(amount);
+        });
+    }
+
+    /**
+     * Records a new booking.
+     */
+    public void bookingCreated(BookingStatus status) {
+        afterCommit(() -> adder(bookingCounts, status).increment());
+    }
+
+    /**
+     * Records a booking status change.
+     */
+    public void bookingChanged(BookingStatus from, BookingStatus to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        afterCommit(() -> {
+            adder(bookingCounts, from).decrement();
+            adder(bookingCounts, to).increment();
+        });
+    }
+
+    /**
+     * Records a deleted booking.
+     */
+    public void bookingDeleted(BookingStatus status) {
+        afterCommit(() -> adder(bookingCounts, status).decrement());
+    }
+
+    /**
+     * Records a new support ticket.
+     */
+    public void ticketCreated(TicketStatus status) {
+        afterCommit(() -> adder(ticketCounts, status).increment());
+    }
+
+    /**
+     * Records a support ticket status change.
+     */
+    public void ticketChanged(TicketStatus from, TicketStatus to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        afterCommit(() -> {
+            adder(ticketCounts, from).decrement();
+            adder(ticketCounts, to).increment();
+        });
+    }
+
+    public long getPaymentCount(PaymentStatus status) {
+        LongAdder count = paymentCounts.get(key(status));
+        return count != null ? count.sum() : 0L;
+    }
+
+    public double getPaymentTotal(PaymentStatus status) {
+        DoubleAdder total = paymentTotals.get(key(status));
+        return total != null ? total.sum() : 0.0;
+    }
+
+    /**
+     * Returns the amount of all payments, whatever their status.
+     */
+    public double getPaymentTotal() {
+        return paymentTotals.values().stream().mapToDouble(DoubleAdder::sum).sum();
+    }
+
+    public long getBookingCount() {
+        return bookingCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getBookingCount(BookingStatus status) {
+        LongAdder count = bookingCounts.get(key(status));
+        return count != null ? count.sum() : 0L;
+    }
+
+    public long getTicketCount(TicketStatus status) {
+        LongAdder count = ticketCounts.get(key(status));
+        return count != null ? count.sum() : 0L;
+    }
+
+    /**
+     * Runs the update after the current transaction commits, or immediately outside a transaction.
+     */
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void logDrift(String name, Map<String, LongAdder> before, Map<String, LongAdder> after) {
+        long was = before.values().stream().mapToLong(LongAdder::sum).sum();
+        long now = after.values().stream().mapToLong(LongAdder::sum).sum();
+        if (was != now) {
+            logger.info("Reconciled {} counters: {} -> {}", name, was, now);
+        }
+    }
+
+    private static Map<String, LongAdder> toAdders(List<StatusCount> rows) {
+        Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        for (StatusCount row : rows) {
+            adder(counts, row.getStatus()).add(row.getCount());
+        }
+        return counts;
+    }
+
+    private static LongAdder adder(Map<String, LongAdder> counts, Enum<?> status) {
+        return counts.computeIfAbsent(key(status), k -> new LongAdder());
+    }
+
+    private static DoubleAdder amount(Map<String, DoubleAdder> totals, Enum<?> status) {
+        return totals.computeIfAbsent(key(status), k -> new DoubleAdder());
+    }
+
+    private static String key(Enum<?> status) {
+        return status != null ? status.name() : NO_STATUS;
+    }
+}
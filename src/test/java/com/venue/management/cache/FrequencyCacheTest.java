@@ -0,0 +1,87 @@
+package com.venue.management.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FrequencyCache.
+ * Tests hit/miss counting, bounded size and frequency-aware admission.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class FrequencyCacheTest {
+
+    @Test
+    void testGet_CountsHitsAndMisses() {
+        // Arrange
+        FrequencyCache<Long, String> cache = new FrequencyCache<>(4);
+        cache.put(1L, "one");
+
+        // Act
+        cache.get(1L);
+        cache.get(2L);
+
+        // Assert
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void testPut_FrequentKeyEvictsLeastRecentlyUsed() {
+        // Arrange
+        FrequencyCache<Long, String> cache = new FrequencyCache<>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(2L);
+        for (int i = 0; i < 3; i++) {
+            cache.get(3L);
+        }
+
+        // Act
+        boolean admitted = cache.put(3L, "three");
+
+        // Assert
+        assertTrue(admitted);
+        assertEquals(2, cache.size());
+        assertNull(cache.get(1L));
+        assertEquals("three", cache.get(3L));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void testPut_OneOffKeyDoesNotDisplacePopularEntry() {
+        // Arrange
+        FrequencyCache<Long, String> cache = new FrequencyCache<>(1);
+        cache.put(1L, "one");
+        for (int i = 0; i < 5; i++) {
+            cache.get(1L);
+        }
+
+        // Act
+        cache.get(2L);
+        boolean admitted = cache.put(2L, "two");
+
+        // Assert
+        assertFalse(admitted);
+        assertEquals("one", cache.get(1L));
+        assertEquals(0, cache.stats().evictions());
+    }
+
+    @Test
+    void testInvalidate_RemovesEntry() {
+        // Arrange
+        FrequencyCache<Long, String> cache = new FrequencyCache<>(2);
+        cache.put(1L, "one");
+
+        // Act
+        cache.invalidate(1L);
+
+        // Assert
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+}
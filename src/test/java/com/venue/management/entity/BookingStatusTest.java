@@ -0,0 +1,63 @@
+package com.venue.management.entity;
+
+import com.venue.management.exception.IllegalStatusTransitionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingStatus.
+ * Tests the allowed transitions of the booking state machine and the code column mapping.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class BookingStatusTest {
+
+    @Test
+    void testCanMoveTo_FollowsTheLifecycle() {
+        // Assert
+        assertTrue(BookingStatus.HELD.canMoveTo(BookingStatus.PENDING));
+        assertTrue(BookingStatus.PENDING.canMoveTo(BookingStatus.CONFIRMED));
+        assertTrue(BookingStatus.PENDING.canMoveTo(BookingStatus.HELD));
+        assertTrue(BookingStatus.CONFIRMED.canMoveTo(BookingStatus.COMPLETED));
+        assertTrue(BookingStatus.CONFIRMED.canMoveTo(BookingStatus.CANCELLED));
+        assertFalse(BookingStatus.HELD.canMoveTo(BookingStatus.CONFIRMED));
+        assertFalse(BookingStatus.PENDING.canMoveTo(BookingStatus.COMPLETED));
+        assertFalse(BookingStatus.CONFIRMED.canMoveTo(BookingStatus.PENDING));
+        for (BookingStatus status : BookingStatus.values()) {
+            assertFalse(BookingStatus.COMPLETED.canMoveTo(status));
+            assertFalse(BookingStatus.CANCELLED.canMoveTo(status));
+            assertFalse(BookingStatus.EXPIRED.canMoveTo(status));
+        }
+    }
+
+    @Test
+    void testCheckTransition_RejectsFinalStatus() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setBookingId(7L);
+        booking.setStatus(BookingStatus.CANCELLED);
+
+        // Act & Assert
+        IllegalStatusTransitionException error = assertThrows(IllegalStatusTransitionException.class,
+            () -> BookingStatus.checkTransition(booking, BookingStatus.CONFIRMED));
+        assertEquals("Booking #7 is CANCELLED and cannot be changed to CONFIRMED.", error.getMessage());
+    }
+
+    @Test
+    void testConverter_RoundTripsCodes() {
+        // Arrange
+        BookingStatus.Converter converter = new BookingStatus.Converter();
+
+        // Act & Assert
+        for (BookingStatus status : BookingStatus.values()) {
+            String code = converter.convertToDatabaseColumn(status);
+            assertEquals(1, code.length());
+            assertEquals(status, converter.convertToEntityAttribute(code));
+        }
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute("CONFIRMED"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.venue.management.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RingBuffer.
+ * Tests capacity rounding, rejection when full, FIFO draining and wrap-around.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class RingBufferTest {
+
+    @Test
+    void testOffer_RejectsWhenFull() {
+        // Arrange
+        RingBuffer<Integer> ring = new RingBuffer<>(3);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        boolean accepted = ring.offer(4);
+
+        // Assert
+        assertEquals(4, ring.capacity());
+        assertFalse(accepted);
+        assertEquals(4, ring.size());
+    }
+
+    @Test
+    void testDrainTo_ReturnsOldestFirstUpToMax() {
+        // Arrange
+        RingBuffer<Integer> ring = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            ring.offer(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        // Act
+        int drained = ring.drainTo(batch, 3);
+
+        // Assert
+        assertEquals(3, drained);
+        assertEquals(List.of(0, 1, 2), batch);
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void testOfferAndDrain_WrapAround() {
+        // Arrange
+        RingBuffer<Integer> ring = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ring.offer(i));
+            if (i % 2 == 1) {
+                ring.drainTo(drained, 4);
+            }
+        }
+
+        // Assert
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drained);
+        assertEquals(0, ring.size());
+    }
+}
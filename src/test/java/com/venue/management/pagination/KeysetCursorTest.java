@@ -0,0 +1,52 @@
+package com.venue.management.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for KeysetCursor.
+ * Tests token round-tripping, null sort keys, and rejection of malformed tokens.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor("venueName", Sort.Direction.ASC, true, "42", "Grand Hall | East");
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals("venueName", decoded.getProperty());
+        assertEquals(Sort.Direction.ASC, decoded.getDirection());
+        assertTrue(decoded.isForward());
+        assertEquals("42", decoded.getId());
+        assertEquals("Grand Hall | East", decoded.getKey());
+        assertTrue(decoded.matches(Sort.Order.asc("venueName")));
+        assertFalse(decoded.matches(Sort.Order.desc("venueName")));
+    }
+
+    @Test
+    void testEncodeDecode_NullKey() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor("endDate", Sort.Direction.DESC, false, "7", null);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertFalse(decoded.isForward());
+        assertNull(decoded.getKey());
+    }
+
+    @Test
+    void testDecode_MalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor!"));
+    }
+}
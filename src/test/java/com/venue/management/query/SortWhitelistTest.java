@@ -0,0 +1,58 @@
+package com.venue.management.query;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SortWhitelist and ListFilter.
+ * Tests mapping of allowed sort fields, fallback for unknown fields, and filter normalization.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class SortWhitelistTest {
+
+    private final SortWhitelist whitelist = new SortWhitelist(Map.of(
+        "eventDate", "eventDate",
+        "status", "status"), "bookingId");
+
+    @Test
+    void testApply_AllowedField_AddsIdTieBreaker() {
+        // Arrange
+        Pageable pageable = PageRequest.of(2, 10, Sort.by("eventDate").descending());
+
+        // Act
+        Pageable result = whitelist.apply(pageable);
+
+        // Assert
+        assertEquals(2, result.getPageNumber());
+        assertEquals(10, result.getPageSize());
+        assertEquals(Sort.by(Sort.Order.desc("eventDate"), Sort.Order.desc("bookingId")), result.getSort());
+    }
+
+    @Test
+    void testResolve_UnknownField_FallsBackToId() {
+        // Act
+        Sort.Order result = whitelist.resolve(Sort.Order.asc("user.password"));
+
+        // Assert
+        assertEquals(Sort.Order.asc("bookingId"), result);
+    }
+
+    @Test
+    void testListFilter_BlankAndAllMeanNoFilter() {
+        // Act
+        ListFilter filter = new ListFilter("ALL", "   ", null, null);
+
+        // Assert
+        assertNull(filter.getStatus());
+        assertNull(filter.getSearch());
+        assertEquals("hall", new ListFilter(null, " hall ", null, null).getSearch());
+    }
+}
@@ -0,0 +1,93 @@
+package com.venue.management.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HashedTimingWheel.
+ * Tests firing, cancellation, rescheduling, and deadlines beyond one wheel rotation.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1_000L;
+
+    private HashedTimingWheel<Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(TICK, 8, 0L);
+    }
+
+    @Test
+    void testAdvance_FiresOnlyDueKeys() {
+        // Arrange
+        wheel.schedule(1L, 3 * TICK);
+        wheel.schedule(2L, 5 * TICK);
+
+        // Act & Assert
+        assertTrue(wheel.advance(2 * TICK).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(4 * TICK));
+        assertEquals(List.of(2L), wheel.advance(5 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_DeadlineBeyondOneRotation() {
+        // Arrange: 20 ticks on an 8-bucket wheel
+        wheel.schedule(1L, 20 * TICK);
+
+        // Act & Assert
+        assertTrue(wheel.advance(12 * TICK).isEmpty());
+        assertTrue(wheel.contains(1L));
+        assertEquals(List.of(1L), wheel.advance(20 * TICK));
+    }
+
+    @Test
+    void testAdvance_LongPauseFiresEverythingDue() {
+        // Arrange
+        wheel.schedule(1L, 2 * TICK);
+        wheel.schedule(2L, 30 * TICK);
+
+        // Act
+        List<Long> fired = wheel.advance(100 * TICK);
+
+        // Assert
+        assertEquals(2, fired.size());
+        assertTrue(fired.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    void testCancelAndReschedule() {
+        // Arrange
+        wheel.schedule(1L, 2 * TICK);
+        wheel.schedule(2L, 2 * TICK);
+
+        // Act
+        assertTrue(wheel.cancel(1L));
+        wheel.schedule(2L, 6 * TICK);
+
+        // Assert
+        assertTrue(wheel.advance(3 * TICK).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(6 * TICK));
+        assertFalse(wheel.cancel(1L));
+    }
+
+    @Test
+    void testSchedule_PastDeadlineFiresOnNextAdvance() {
+        // Arrange
+        wheel.advance(10 * TICK);
+
+        // Act
+        wheel.schedule(1L, 0L);
+
+        // Assert
+        assertEquals(List.of(1L), wheel.advance(11 * TICK));
+    }
+}
@@ -0,0 +1,75 @@
+package com.venue.management.security;
+
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AccountChangeTracker and UserPrincipal.
+ * Tests that principals loaded before an account change are reported stale.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class AccountChangeTrackerTest {
+
+    private final AccountChangeTracker tracker = new AccountChangeTracker();
+
+    @Test
+    void testIsStale_ChangeAfterLoad() {
+        // Arrange
+        UserPrincipal principal = new UserPrincipal(user(1L), tracker.currentGeneration());
+
+        // Act
+        tracker.accountChanged(1L);
+
+        // Assert
+        assertTrue(tracker.isStale(principal));
+    }
+
+    @Test
+    void testIsStale_ReloadedPrincipalAndOtherAccountsAreFresh() {
+        // Arrange
+        tracker.accountChanged(1L);
+        UserPrincipal reloaded = new UserPrincipal(user(1L), tracker.currentGeneration());
+        UserPrincipal other = new UserPrincipal(user(2L), 0L);
+
+        // Act & Assert
+        assertFalse(tracker.isStale(reloaded));
+        assertFalse(tracker.isStale(other));
+    }
+
+    @Test
+    void testPurgeExpired_KeepsChangesWithinTheSessionTimeout() {
+        // Arrange
+        UserPrincipal principal = new UserPrincipal(user(1L), tracker.currentGeneration());
+        tracker.accountChanged(1L);
+
+        // Act
+        tracker.purgeExpired();
+
+        // Assert
+        assertTrue(tracker.isStale(principal));
+    }
+
+    @Test
+    void testToUser_CarriesIdAndRoleWithoutCredentials() {
+        // Arrange
+        UserPrincipal principal = new UserPrincipal(user(1L), 0L);
+
+        // Act
+        User user = principal.toUser();
+
+        // Assert
+        assertEquals(1L, user.getUserId());
+        assertEquals("user1", user.getUsername());
+        assertEquals(Role.CUSTOMER, user.getRole());
+        assertNull(user.getPassword());
+    }
+
+    private User user(Long id) {
+        return new User(id, "user" + id, "secret", "user" + id + "@example.com", Role.CUSTOMER, true);
+    }
+}
@@ -1,25 +1,46 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue;
+import com.venue.management.event.BookingCancelled;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.exception.IllegalStatusTransitionException;
+import com.venue.management.pagination.CursorPage;
+import com.venue.management.pagination.KeysetPaginator;
+import com.venue.management.query.ListFilter;
+import com.venue.management.query.ListQueryEngine;
 import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueDaySlotRepository;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.repository.projection.BookingRow;
+import com.venue.management.scheduler.BookingCompletionScheduler;
+import com.venue.management.scheduler.BookingHoldScheduler;
 import com.venue.management.service.impl.BookingServiceImpl;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,7 +60,34 @@ class BookingServiceTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private PaymentService paymentService;
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Mock
+    private VenueBookingIndex bookingIndex;
+
+    @Mock
+    private BookingCompletionScheduler completionScheduler;
+
+    @Mock
+    private KeysetPaginator keysetPaginator;
+
+    @Mock
+    private ListQueryEngine queryEngine;
+
+    @Mock
+    private DashboardCounters counters;
+
+    @Mock
+    private VenueDaySlotRepository daySlotRepository;
+
+    @Mock
+    private BookingHoldScheduler holdScheduler;
+
+    @Mock
+    private OptimisticRetry optimisticRetry;
 
     @InjectMocks
     private BookingServiceImpl bookingService;
@@ -65,14 +113,13 @@ class BookingServiceTest {
         booking.setVenue(venue);
         booking.setEventDate(LocalDate.now());
         booking.setEndDate(LocalDate.now().plusDays(2));
-        booking.setStatus("PENDING");
+        booking.setStatus(BookingStatus.PENDING);
     }
 
     @Test
     void testCreateBooking_Success() {
         // Arrange
-        List<Booking> existingBookings = new ArrayList<>();
-        when(bookingRepository.findAll()).thenReturn(existingBookings);
+        when(bookingIndex.hasOverlap(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(false);
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
         // Act
@@ -80,22 +127,52 @@ class BookingServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals("PENDING", result.getStatus());
+        verify(holdScheduler, times(1)).hold(booking);
         verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingIndex, times(1)).add(booking);
+        verify(completionScheduler, times(1)).track(booking);
+        verify(holdScheduler, times(1)).track(booking);
+        verify(counters, times(1)).bookingCreated(BookingStatus.HELD);
+        verify(bookingRepository, never()).findAll();
     }
 
     @Test
     void testCreateBooking_WithConflict() {
         // Arrange
-        Booking conflictingBooking = new Booking();
-        conflictingBooking.setVenue(venue);
-        conflictingBooking.setEventDate(LocalDate.now());
-        conflictingBooking.setEndDate(LocalDate.now().plusDays(2));
-        conflictingBooking.setStatus("CONFIRMED");
+        when(bookingIndex.hasOverlap(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(true);
 
-        List<Booking> existingBookings = new ArrayList<>();
-        existingBookings.add(conflictingBooking);
-        when(bookingRepository.findAll()).thenReturn(existingBookings);
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> {
+            bookingService.createBooking(booking);
+        });
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testCreateBooking_DatabaseMode_LocksVenueAndChecksOverlap() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "conflictCheckMode", BookingConflictMode.DATABASE);
+        when(venueRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(venue));
+        when(bookingRepository.existsActiveOverlap(eq(1L), eq(booking.getEventDate()), eq(booking.getEndDate()),
+            any(LocalDateTime.class))).thenReturn(false);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+
+        // Act
+        Booking result = bookingService.createBooking(booking);
+
+        // Assert
+        assertNotNull(result);
+        verify(venueRepository, times(1)).findByIdForUpdate(1L);
+        verify(bookingIndex, never()).hasOverlap(anyLong(), any(), any());
+    }
+
+    @Test
+    void testCreateBooking_DatabaseMode_WithConflict() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "conflictCheckMode", BookingConflictMode.DATABASE);
+        when(venueRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(venue));
+        when(bookingRepository.existsActiveOverlap(eq(1L), eq(booking.getEventDate()), eq(booking.getEndDate()),
+            any(LocalDateTime.class))).thenReturn(true);
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
@@ -104,36 +181,104 @@ class BookingServiceTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void testCreateBooking_SlotsMode_ReservesDaysWithoutReading() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "conflictCheckMode", BookingConflictMode.SLOTS);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+
+        // Act
+        Booking result = bookingService.createBooking(booking);
+
+        // Assert
+        assertNotNull(result);
+        verify(daySlotRepository, times(1)).reserve(1L, 1L, booking.getEventDate(), booking.getEndDate());
+        verify(bookingIndex, never()).hasOverlap(anyLong(), any(), any());
+        verify(venueRepository, never()).findByIdForUpdate(anyLong());
+    }
+
+    @Test
+    void testCreateBooking_SlotsMode_TakenDayIsConflict() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "conflictCheckMode", BookingConflictMode.SLOTS);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        doThrow(new DuplicateKeyException("Duplicate entry")).when(daySlotRepository)
+            .reserve(1L, 1L, booking.getEventDate(), booking.getEndDate());
+
+        // Act & Assert
+        RuntimeException error = assertThrows(RuntimeException.class, () -> bookingService.createBooking(booking));
+        assertEquals("Venue is already booked for the selected date range.", error.getMessage());
+        assertFalse(error instanceof DuplicateKeyException);
+        verify(bookingIndex, never()).add(any(Booking.class));
+    }
+
     @Test
     void testUpdateStatus_Success() {
         // Arrange
+        runTransitions();
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
         // Act
-        Booking result = bookingService.updateStatus(1L, "CONFIRMED");
+        Booking result = bookingService.updateStatus(1L, BookingStatus.CONFIRMED);
 
         // Assert
         assertNotNull(result);
-        assertEquals("CONFIRMED", result.getStatus());
+        assertEquals(BookingStatus.CONFIRMED, result.getStatus());
         verify(bookingRepository, times(1)).save(any(Booking.class));
     }
 
     @Test
     void testUpdateStatus_WithCancellation() {
         // Arrange
-        booking.setStatus("CONFIRMED");
+        runTransitions();
+        booking.setStatus(BookingStatus.CONFIRMED);
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        doNothing().when(paymentService).refundPayment(1L);
 
         // Act
-        Booking result = bookingService.updateStatus(1L, "CANCELLED");
+        Booking result = bookingService.updateStatus(1L, BookingStatus.CANCELLED);
 
         // Assert
         assertNotNull(result);
-        assertEquals("CANCELLED", result.getStatus());
-        verify(paymentService, times(1)).refundPayment(1L);
+        assertEquals(BookingStatus.CANCELLED, result.getStatus());
+        // The refund is made by the event's consumer after commit, not inline
+        verify(eventPublisher, times(1)).publish(new BookingCancelled(1L, BookingStatus.CONFIRMED));
+        verify(daySlotRepository, times(1)).deleteByBookingId(1L);
+        verify(bookingIndex, times(1)).add(booking);
+        verify(counters, times(1)).bookingChanged(BookingStatus.CONFIRMED, BookingStatus.CANCELLED);
+    }
+
+    @Test
+    void testUpdateStatus_AlreadyInStatus_DoesNothing() {
+        // Arrange
+        runTransitions();
+        booking.setStatus(BookingStatus.CANCELLED);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+        // Act
+        Booking result = bookingService.updateStatus(1L, BookingStatus.CANCELLED);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, result.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verifyNoInteractions(eventPublisher, daySlotRepository, counters);
+    }
+
+    @Test
+    void testUpdateStatus_IllegalTransition_IsRejected() {
+        // Arrange
+        runTransitions();
+        booking.setStatus(BookingStatus.COMPLETED);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+        // Act & Assert
+        IllegalStatusTransitionException error = assertThrows(IllegalStatusTransitionException.class,
+            () -> bookingService.updateStatus(1L, BookingStatus.CANCELLED));
+        assertEquals("Booking #1 is COMPLETED and cannot be changed to CANCELLED.", error.getMessage());
+        assertEquals(BookingStatus.COMPLETED, booking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verifyNoInteractions(eventPublisher, daySlotRepository, counters);
     }
 
     @Test
@@ -164,54 +309,100 @@ class BookingServiceTest {
     void testGetAllBookings_WithPagination() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Booking> bookings = new ArrayList<>();
-        bookings.add(booking);
-        Page<Booking> page = new PageImpl<>(bookings, pageable, 1);
-        when(bookingRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<BookingRow> page = new PageImpl<>(List.of(row(booking)), pageable, 1);
+        when(queryEngine.findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class))).thenReturn(page);
 
         // Act
-        Page<Booking> result = bookingService.getAllBookings(null, null, pageable);
+        Page<BookingRow> result = bookingService.getAllBookings(ListFilter.none(), pageable);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(bookingRepository, times(1)).findAll(any(Pageable.class));
+        assertEquals("Test Venue", result.getContent().get(0).venueName());
+        verify(queryEngine, times(1)).findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class));
     }
 
     @Test
-    void testGetAllBookings_WithStatusFilter() {
+    void testGetAllBookings_WithStatusAndSearch_UsesOneQueryWithExactTotal() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Booking> bookings = new ArrayList<>();
-        bookings.add(booking);
-        Page<Booking> page = new PageImpl<>(bookings, pageable, 1);
-        when(bookingRepository.findByStatus(eq("PENDING"), any(Pageable.class))).thenReturn(page);
+        Page<BookingRow> page = new PageImpl<>(List.of(row(booking)), pageable, 25);
+        when(queryEngine.findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class))).thenReturn(page);
 
         // Act
-        Page<Booking> result = bookingService.getAllBookings("PENDING", null, pageable);
+        Page<BookingRow> result = bookingService.getAllBookings(new ListFilter("PENDING", "hall", null, null), pageable);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        verify(bookingRepository, times(1)).findByStatus(eq("PENDING"), any(Pageable.class));
+        assertEquals(25, result.getTotalElements());
+        verify(queryEngine, times(1)).findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void testGetAllBookings_UnknownSortField_FallsBackToId() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("user.password").ascending());
+        when(queryEngine.findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        // Act
+        bookingService.getAllBookings(ListFilter.none(), pageable);
+
+        // Assert
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(queryEngine).findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), captor.capture());
+        assertEquals(Sort.by(Sort.Order.asc("bookingId")), captor.getValue().getSort());
     }
 
     @Test
     void testGetCustomerBookings_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Booking> bookings = new ArrayList<>();
-        bookings.add(booking);
-        Page<Booking> page = new PageImpl<>(bookings, pageable, 1);
-        when(bookingRepository.findByUser(eq(user), any(Pageable.class))).thenReturn(page);
+        Page<BookingRow> page = new PageImpl<>(List.of(row(booking)), pageable, 1);
+        when(queryEngine.findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class))).thenReturn(page);
 
         // Act
-        Page<Booking> result = bookingService.getCustomerBookings(user, null, null, pageable);
+        Page<BookingRow> result = bookingService.getCustomerBookings(user, new ListFilter(null, "hall", null, null), pageable);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(bookingRepository, times(1)).findByUser(eq(user), any(Pageable.class));
+        verify(queryEngine, times(1)).findRows(eq(Booking.class), eq(BookingRow.class), any(), any(), any(Pageable.class));
     }
-}
 
+    @Test
+    void testScrollCustomerBookings_LoadsRowsInPageOrder() {
+        // Arrange
+        Sort.Order order = Sort.Order.desc("eventDate");
+        Booking other = new Booking();
+        other.setBookingId(2L);
+        other.setEventDate(LocalDate.now());
+        CursorPage<Long> ids = new CursorPage<>(List.of(2L, 1L), "next-token", null);
+        when(keysetPaginator.scrollIds(eq(Booking.class), notNull(), eq(order), eq("bookingId"), eq("token"), eq(10)))
+            .thenReturn(ids);
+        when(bookingRepository.findRowsByIdIn(List.of(2L, 1L))).thenReturn(List.of(row(booking), row(other)));
+
+        // Act
+        CursorPage<BookingRow> result = bookingService.scrollCustomerBookings(user, new ListFilter("PENDING", "hall", null, null), order, "token", 10);
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertEquals(2L, result.getContent().get(0).bookingId());
+        assertEquals(1L, result.getContent().get(1).bookingId());
+        assertTrue(result.hasNext());
+        assertFalse(result.hasPrevious());
+    }
+
+    private BookingRow row(Booking b) {
+        return new BookingRow(b.getBookingId(), "Test Venue", "testuser", b.getEventDate(), b.getEndDate(),
+            b.getEventType(), b.getStatus());
+    }
+
+    /**
+     * Runs each status transition once, as the retry template does when there is no conflict.
+     */
+    private void runTransitions() {
+        when(optimisticRetry.execute(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+}
@@ -1,12 +1,22 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
 import com.venue.management.entity.Payment;
+import com.venue.management.entity.PaymentStatus;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue;
+import com.venue.management.query.ListFilter;
+import com.venue.management.query.ListQueryEngine;
 import com.venue.management.repository.BookingRepository;
 import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.projection.PaymentRow;
+import com.venue.management.scheduler.BookingHoldScheduler;
 import com.venue.management.service.impl.PaymentServiceImpl;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.payment.PaymentProcessor;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,10 +29,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 //import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,6 +55,24 @@ class PaymentServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ListQueryEngine queryEngine;
+
+    @Mock
+    private DashboardCounters counters;
+
+    @Mock
+    private PaymentProcessor paymentProcessor;
+
+    @Mock
+    private VenueBookingIndex bookingIndex;
+
+    @Mock
+    private BookingHoldScheduler holdScheduler;
+
+    @Mock
+    private OptimisticRetry optimisticRetry;
+
     @InjectMocks
     private PaymentServiceImpl paymentServiceImpl;
 
@@ -69,20 +98,22 @@ class PaymentServiceTest {
         booking.setVenue(venue);
         booking.setEventDate(LocalDate.now());
         booking.setEndDate(LocalDate.now().plusDays(2));
-        booking.setStatus("PENDING");
+        booking.setStatus(BookingStatus.HELD);
+        booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
 
         payment = new Payment();
         payment.setPaymentId(1L);
         payment.setBooking(booking);
         payment.setPaymentAmount(3000.0);
-        payment.setPaymentStatus("PENDING");
+        payment.setPaymentStatus(PaymentStatus.PENDING);
     }
 
     @Test
     void testProcessPayment_Success() {
         // Arrange
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.empty());
+        when(bookingRepository.claimLiveHold(eq(1L), any(LocalDateTime.class))).thenReturn(1);
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
         // Act
@@ -90,10 +121,56 @@ class PaymentServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals("SUCCESS", result.getPaymentStatus());
-        assertEquals("CONFIRMED", booking.getStatus());
-        verify(bookingRepository, times(1)).save(any(Booking.class));
+        assertEquals(PaymentStatus.PENDING, result.getPaymentStatus());
+        assertEquals(3000.0, result.getPaymentAmount());
+        // The hold no longer expires; the booking is confirmed only when the gateway approves the charge
+        assertEquals(BookingStatus.PENDING, booking.getStatus());
+        assertNull(booking.getHoldExpiresAt());
+        verify(bookingIndex, times(1)).add(booking);
+        verify(holdScheduler, times(1)).track(booking);
+        verify(counters, times(1)).bookingChanged(BookingStatus.HELD, BookingStatus.PENDING);
+        verify(bookingRepository, never()).save(any(Booking.class));
         verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(counters, times(1)).paymentCreated(PaymentStatus.PENDING, 3000.0);
+        verify(paymentProcessor, times(1)).submit(payment);
+    }
+
+    @Test
+    void testProcessPayment_RetriesFailedPaymentAndSkipsPaidBooking() {
+        // Arrange
+        Payment failed = new Payment(5L, booking, 3000.0, null, PaymentStatus.FAILED);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.of(failed));
+        when(bookingRepository.claimLiveHold(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentRepository.save(failed)).thenReturn(failed);
+        Payment attempt = new Payment();
+        attempt.setBooking(booking);
+
+        // Act
+        Payment retried = paymentServiceImpl.processPayment(attempt);
+        Payment repeated = paymentServiceImpl.processPayment(attempt);
+
+        // Assert
+        assertSame(failed, retried);
+        assertSame(failed, repeated);
+        assertEquals(PaymentStatus.PENDING, failed.getPaymentStatus());
+        verify(paymentRepository, times(1)).save(failed);
+        verify(counters, times(1)).paymentChanged(PaymentStatus.FAILED, PaymentStatus.PENDING, 3000.0);
+        verify(paymentProcessor, times(1)).submit(failed);
+    }
+
+    @Test
+    void testProcessPayment_ExpiredHoldIsNotCharged() {
+        // Arrange
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.empty());
+        when(bookingRepository.claimLiveHold(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> paymentServiceImpl.processPayment(payment));
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(paymentProcessor, never()).submit(any(Payment.class));
+        verify(bookingIndex, never()).add(any(Booking.class));
     }
 
     @Test
@@ -123,84 +200,100 @@ class PaymentServiceTest {
     @Test
     void testRefundPayment_Success() {
         // Arrange
-        payment.setPaymentStatus("SUCCESS");
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(paymentRepository.findByBooking(booking)).thenReturn(Optional.of(payment));
+        runTransitions();
+        payment.setPaymentStatus(PaymentStatus.SUCCESS);
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.of(payment));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
         // Act
         paymentServiceImpl.refundPayment(1L);
 
         // Assert
-        assertEquals("REFUNDED", payment.getPaymentStatus());
+        assertEquals(PaymentStatus.REFUNDED, payment.getPaymentStatus());
         verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(counters, times(1)).paymentChanged(PaymentStatus.SUCCESS, PaymentStatus.REFUNDED, 3000.0);
     }
 
     @Test
     void testRefundPayment_NoPaymentFound() {
         // Arrange
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(paymentRepository.findByBooking(booking)).thenReturn(Optional.empty());
+        runTransitions();
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.empty());
 
         // Act
         paymentServiceImpl.refundPayment(1L);
 
         // Assert
         verify(paymentRepository, never()).save(any(Payment.class));
+        verifyNoInteractions(counters);
+    }
+
+    @Test
+    void testRefundPayment_AlreadyRefunded_DoesNothing() {
+        // Arrange
+        runTransitions();
+        payment.setPaymentStatus(PaymentStatus.REFUNDED);
+        when(paymentRepository.findByBooking_BookingId(1L)).thenReturn(Optional.of(payment));
+
+        // Act
+        paymentServiceImpl.refundPayment(1L);
+
+        // Assert
+        assertEquals(PaymentStatus.REFUNDED, payment.getPaymentStatus());
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verifyNoInteractions(counters);
     }
 
     @Test
     void testGetAllPayments_WithPagination() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Payment> payments = new ArrayList<>();
-        payments.add(payment);
-        Page<Payment> page = new PageImpl<>(payments, pageable, 1);
-        when(paymentRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<PaymentRow> page = new PageImpl<>(List.of(row()), pageable, 1);
+        when(queryEngine.findRows(eq(Payment.class), eq(PaymentRow.class), any(), any(), any(Pageable.class))).thenReturn(page);
 
         // Act
-        Page<Payment> result = paymentServiceImpl.getAllPayments(null, null, pageable);
+        Page<PaymentRow> result = paymentServiceImpl.getAllPayments(ListFilter.none(), pageable);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(paymentRepository, times(1)).findAll(any(Pageable.class));
+        verify(queryEngine, times(1)).findRows(eq(Payment.class), eq(PaymentRow.class), any(), any(), any(Pageable.class));
     }
 
     @Test
     void testGetUserPayments_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Payment> payments = new ArrayList<>();
-        payments.add(payment);
-        Page<Payment> page = new PageImpl<>(payments, pageable, 1);
-        when(paymentRepository.findByBooking_User_UserId(eq(1L), any(Pageable.class))).thenReturn(page);
+        Page<PaymentRow> page = new PageImpl<>(List.of(row()), pageable, 1);
+        when(queryEngine.findRows(eq(Payment.class), eq(PaymentRow.class), any(), any(), any(Pageable.class))).thenReturn(page);
 
         // Act
-        Page<Payment> result = paymentServiceImpl.getUserPayments(user, null, null, pageable);
+        Page<PaymentRow> result = paymentServiceImpl.getUserPayments(user, new ListFilter("SUCCESS", "venue", null, null), pageable);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(paymentRepository, times(1)).findByBooking_User_UserId(eq(1L), any(Pageable.class));
+        assertEquals("Test Venue", result.getContent().get(0).venueName());
+        verify(queryEngine, times(1)).findRows(eq(Payment.class), eq(PaymentRow.class), any(), any(), any(Pageable.class));
     }
 
     @Test
     void testGetTotalEarnings() {
         // Arrange
-        when(paymentRepository.sumOfPayments()).thenReturn(10000.0);
+        when(counters.getPaymentTotal()).thenReturn(10000.0);
 
         // Act
         double earnings = paymentServiceImpl.getTotalEarnings();
 
         // Assert
         assertEquals(10000.0, earnings);
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
     void testGetSuccessfulPaymentsCount() {
         // Arrange
-        when(paymentRepository.countByPaymentStatus("SUCCESS")).thenReturn(5L);
+        when(counters.getPaymentCount(PaymentStatus.SUCCESS)).thenReturn(5L);
 
         // Act
         long count = paymentServiceImpl.getSuccessfulPaymentsCount();
@@ -208,5 +301,17 @@ class PaymentServiceTest {
         // Assert
         assertEquals(5L, count);
     }
-}
 
+    private PaymentRow row() {
+        return new PaymentRow(payment.getPaymentId(), "testuser", "Test Venue", booking.getStatus(),
+            payment.getPaymentAmount(), payment.getPaymentDate(), payment.getPaymentStatus());
+    }
+
+    /**
+     * Runs each transition once, as the retry template does when there is no conflict.
+     */
+    private void runTransitions() {
+        when(optimisticRetry.execute(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+}
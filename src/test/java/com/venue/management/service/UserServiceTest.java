@@ -0,0 +1,101 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import com.venue.management.repository.UserRepository;
+import com.venue.management.security.AccountChangeTracker;
+import com.venue.management.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserService.
+ * Tests paginated manager lookups and bulk approval and rejection.
+ * 
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AccountChangeTracker changeTracker;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @Test
+    void testGetManagers_QueriesOnePageOrderedById() {
+        // Arrange
+        Page<User> page = new PageImpl<>(List.of(new User()));
+        when(userRepository.findByRoleAndEnabled(eq(Role.EVENT_MANAGER), eq(false), any(Pageable.class))).thenReturn(page);
+
+        // Act
+        Page<User> result = userService.getManagers(false, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findByRoleAndEnabled(eq(Role.EVENT_MANAGER), eq(false), captor.capture());
+        assertEquals(Sort.by("userId"), captor.getValue().getSort());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void testApproveManagers_UpdatesInBatchesAndMarksAccountsChanged() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(userRepository.enablePending(anyCollection(), eq(Role.EVENT_MANAGER))).thenAnswer(invocation -> {
+            int size = invocation.<Collection<Long>>getArgument(0).size();
+            batchSizes.add(size);
+            return size;
+        });
+
+        // Act
+        int approved = userService.approveManagers(ids);
+
+        // Assert
+        assertEquals(1200, approved);
+        assertEquals(List.of(500, 500, 200), batchSizes);
+        verify(changeTracker, times(1200)).accountChanged(anyLong());
+    }
+
+    @Test
+    void testRejectManagers_IgnoresDuplicateIds() {
+        // Arrange
+        when(userRepository.deletePending(List.of(7L), Role.EVENT_MANAGER)).thenReturn(1);
+
+        // Act
+        int rejected = userService.rejectManagers(List.of(7L, 7L));
+
+        // Assert
+        assertEquals(1, rejected);
+        verify(changeTracker, times(1)).accountChanged(7L);
+    }
+}
@@ -1,23 +1,35 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.exception.ConcurrentUpdateException;
 import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueDaySlotRepository;
 import com.venue.management.repository.VenueRepository;
 import com.venue.management.service.impl.VenueServiceImpl;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.index.VenueSearchIndex;
+import com.venue.management.service.retry.OptimisticRetry;
+import com.venue.management.service.stats.DashboardCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +51,21 @@ class VenueServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private VenueBookingIndex bookingIndex;
+
+    @Mock
+    private VenueSearchIndex searchIndex;
+
+    @Mock
+    private DashboardCounters counters;
+
+    @Mock
+    private VenueDaySlotRepository daySlotRepository;
+
+    @Mock
+    private OptimisticRetry optimisticRetry;
+
     @InjectMocks
     private VenueServiceImpl venueService;
 
@@ -52,7 +79,7 @@ class VenueServiceTest {
         venue.setLocation("Test Location");
         venue.setCapacity(100);
         venue.setPricePerDay(1000.0);
-        venue.setStatus("AVAILABLE");
+        venue.setStatus(VenueStatus.AVAILABLE);
     }
 
     @Test
@@ -67,6 +94,38 @@ class VenueServiceTest {
         assertNotNull(result);
         assertEquals("Test Venue", result.getVenueName());
         verify(venueRepository, times(1)).save(any(Venue.class));
+        verify(searchIndex, times(1)).put(venue);
+    }
+
+    @Test
+    void testSaveVenue_StaleVersion_IsRejected() {
+        // Arrange
+        venue.setVersion(3L);
+        when(venueRepository.save(any(Venue.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Venue.class, 1L));
+
+        // Act & Assert
+        ConcurrentUpdateException error = assertThrows(ConcurrentUpdateException.class,
+            () -> venueService.saveVenue(venue));
+        assertTrue(error.getMessage().contains("changed by someone else"));
+        verify(searchIndex, never()).put(any(Venue.class));
+    }
+
+    @Test
+    void testUpdateVenueStatus_ReadsCurrentRow() {
+        // Arrange
+        when(optimisticRetry.execute(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(venueRepository.findById(1L)).thenReturn(Optional.of(venue));
+        when(venueRepository.save(any(Venue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Venue result = venueService.updateVenueStatus(1L, VenueStatus.MAINTENANCE);
+
+        // Assert
+        assertEquals(VenueStatus.MAINTENANCE, result.getStatus());
+        verify(venueRepository, times(1)).save(venue);
+        verify(searchIndex, times(1)).put(venue);
     }
 
     @Test
@@ -82,6 +141,26 @@ class VenueServiceTest {
         assertEquals("Test Venue", result.get().getVenueName());
     }
 
+    @Test
+    void testGetVenueById_SecondReadIsCachedUntilSave() {
+        // Arrange
+        when(venueRepository.findById(1L)).thenReturn(Optional.of(venue));
+        when(venueRepository.save(any(Venue.class))).thenReturn(venue);
+
+        // Act
+        Venue first = venueService.getVenueById(1L).orElseThrow();
+        first.setStatus(VenueStatus.MAINTENANCE);
+        Venue second = venueService.getVenueById(1L).orElseThrow();
+        venueService.saveVenue(venue);
+        venueService.getVenueById(1L);
+
+        // Assert
+        assertEquals(VenueStatus.AVAILABLE, second.getStatus());
+        assertNotSame(first, second);
+        verify(venueRepository, times(2)).findById(1L);
+        assertEquals(1, venueService.getCacheStats().get("venuesById").hits());
+    }
+
     @Test
     void testGetVenueById_NotFound() {
         // Arrange
@@ -126,6 +205,27 @@ class VenueServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         verify(venueRepository, times(1)).findAll(any(Pageable.class));
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void testGetAllVenues_WithSearch_HydratesRankedIds() {
+        // Arrange
+        Venue other = new Venue();
+        other.setVenueId(2L);
+        other.setVenueName("Test Garden");
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("venueId"));
+        when(searchIndex.search("test")).thenReturn(List.of(2L, 1L));
+        when(venueRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(venue, other));
+
+        // Act
+        Page<Venue> result = venueService.getAllVenues("test", pageable);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getVenueId());
+        assertEquals(1L, result.getContent().get(1).getVenueId());
+        verify(venueRepository, never()).findAll(any(Pageable.class));
     }
 
     @Test
@@ -133,7 +233,7 @@ class VenueServiceTest {
         // Arrange
         List<Venue> venues = new ArrayList<>();
         venues.add(venue);
-        when(venueRepository.findByStatus("AVAILABLE")).thenReturn(venues);
+        when(venueRepository.findByStatus(VenueStatus.AVAILABLE)).thenReturn(venues);
 
         // Act
         List<Venue> result = venueService.getAvailableVenues();
@@ -141,7 +241,23 @@ class VenueServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(venueRepository, times(1)).findByStatus("AVAILABLE");
+        verify(venueRepository, times(1)).findByStatus(VenueStatus.AVAILABLE);
+    }
+
+    @Test
+    void testGetAvailableVenues_SnapshotInvalidatedOnSave() {
+        // Arrange
+        when(venueRepository.findByStatus(VenueStatus.AVAILABLE)).thenReturn(List.of(venue));
+        when(venueRepository.save(any(Venue.class))).thenReturn(venue);
+
+        // Act
+        venueService.getAvailableVenues();
+        venueService.getAvailableVenues();
+        venueService.saveVenue(venue);
+        venueService.getAvailableVenues();
+
+        // Assert
+        verify(venueRepository, times(2)).findByStatus(VenueStatus.AVAILABLE);
     }
 
     @Test
@@ -157,6 +273,9 @@ class VenueServiceTest {
 
         // Assert
         verify(venueRepository, times(1)).deleteById(1L);
+        verify(bookingIndex, times(1)).removeVenue(1L);
+        verify(searchIndex, times(1)).remove(1L);
+        verify(daySlotRepository, times(1)).deleteByVenueId(1L);
     }
 
     @Test
@@ -170,5 +289,70 @@ class VenueServiceTest {
         });
         verify(venueRepository, never()).deleteById(anyLong());
     }
-}
 
+    @Test
+    void testSearchAvailableVenues_FiltersBookedVenuesAndPages() {
+        // Arrange
+        LocalDate from = LocalDate.now().plusDays(10);
+        LocalDate to = from.plusDays(2);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("pricePerDay"));
+        when(venueRepository.findAvailableVenueIds(50, 2000.0, PageRequest.of(0, 200, Sort.by("pricePerDay", "venueId"))))
+            .thenReturn(List.of(1L, 2L, 3L));
+        when(bookingIndex.hasOverlap(1L, from, to)).thenReturn(false);
+        when(bookingIndex.hasOverlap(2L, from, to)).thenReturn(true);
+        when(bookingIndex.hasOverlap(3L, from, to)).thenReturn(false);
+        when(venueRepository.findAllById(List.of(1L))).thenReturn(List.of(venue));
+
+        // Act
+        Page<Venue> result = venueService.searchAvailableVenues(from, to, 50, 2000.0, pageable);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getVenueId());
+    }
+
+    @Test
+    void testSearchAvailableVenues_StopsReadingPastTheRequestedPage() {
+        // Arrange: a full first batch of free venues
+        LocalDate from = LocalDate.now().plusDays(10);
+        List<Long> batch = LongStream.rangeClosed(1, 200).boxed().toList();
+        when(venueRepository.findAvailableVenueIds(isNull(), isNull(), any(Pageable.class))).thenReturn(batch);
+        when(venueRepository.findAllById(List.of(1L))).thenReturn(List.of(venue));
+
+        // Act
+        Page<Venue> result = venueService.searchAvailableVenues(from, from, null, null, PageRequest.of(0, 1));
+
+        // Assert: one query, and a next page is known to exist
+        verify(venueRepository, times(1)).findAvailableVenueIds(isNull(), isNull(), any(Pageable.class));
+        verify(bookingIndex, times(2)).hasOverlap(anyLong(), eq(from), eq(from));
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    void testSearchAvailableVenues_UnknownSortFallsBackToId() {
+        // Arrange
+        LocalDate from = LocalDate.now().plusDays(10);
+        Pageable pageable = PageRequest.of(0, 6, Sort.by("description").descending());
+        when(venueRepository.findAvailableVenueIds(null, null, PageRequest.of(0, 200, Sort.by("venueId").descending())))
+            .thenReturn(List.of());
+
+        // Act
+        Page<Venue> result = venueService.searchAvailableVenues(from, from, null, null, pageable);
+
+        // Assert
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void testSearchAvailableVenues_InvalidRange() {
+        // Arrange
+        LocalDate from = LocalDate.now().plusDays(10);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> {
+            venueService.searchAvailableVenues(from, from.minusDays(1), null, null, PageRequest.of(0, 6));
+        });
+        verify(venueRepository, never()).findAvailableVenueIds(any(), any(), any());
+    }
+}
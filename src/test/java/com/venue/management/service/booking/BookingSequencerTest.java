@@ -0,0 +1,167 @@
+package com.venue.management.service.booking;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.event.BookingCreated;
+import com.venue.management.event.EventPublisher;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.scheduler.BookingCompletionScheduler;
+import com.venue.management.scheduler.BookingHoldScheduler;
+import com.venue.management.service.index.VenueBookingIndex;
+import com.venue.management.service.stats.DashboardCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingSequencer.
+ * Tests that a venue's bookings are decided in order against committed and queued
+ * bookings, and that one failing request does not fail the rest of its batch.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingSequencerTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Spy
+    private VenueBookingIndex bookingIndex = new VenueBookingIndex();
+
+    @Mock
+    private BookingCompletionScheduler completionScheduler;
+
+    @Mock
+    private BookingHoldScheduler holdScheduler;
+
+    @Mock
+    private DashboardCounters counters;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BookingSequencer sequencer;
+
+    private final AtomicLong ids = new AtomicLong();
+    private Venue venue;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        venue = new Venue();
+        venue.setVenueId(1L);
+        venue.setVenueName("Grand Hall");
+        user = new User();
+        user.setUserId(5L);
+
+        ReflectionTestUtils.setField(sequencer, "laneCount", 2);
+        ReflectionTestUtils.setField(sequencer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(sequencer, "batchSize", 16);
+        sequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sequencer.stop();
+    }
+
+    @Test
+    void testSubmit_OverlappingBookingIsRejected() {
+        // Arrange
+        stubInserts();
+
+        // Act
+        CompletableFuture<Booking> first = sequencer.submit(booking(10, 12), created -> { });
+        CompletableFuture<Booking> second = sequencer.submit(booking(12, 14), created -> { });
+
+        // Assert
+        Booking created = first.join();
+        assertNotNull(created.getBookingId());
+        verify(holdScheduler).hold(created);
+        verify(holdScheduler).track(created);
+        CompletionException error = assertThrows(CompletionException.class, second::join);
+        assertEquals("Venue is already booked for the selected date range.", error.getCause().getMessage());
+        verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(eventPublisher).publish(new BookingCreated(created.getBookingId(), 1L, 5L));
+        assertTrue(bookingIndex.hasOverlap(1L, day(11), day(11)));
+    }
+
+    @Test
+    void testSubmit_DisjointBookingsAreAccepted() {
+        // Arrange
+        stubInserts();
+
+        // Act
+        CompletableFuture<Booking> first = sequencer.submit(booking(10, 12), created -> { });
+        CompletableFuture<Booking> second = sequencer.submit(booking(13, 14), created -> { });
+
+        // Assert
+        assertNotEquals(first.join().getBookingId(), second.join().getBookingId());
+        verify(counters, times(2)).bookingCreated(BookingStatus.HELD);
+        verify(completionScheduler, times(2)).track(any(Booking.class));
+    }
+
+    @Test
+    void testSubmit_FailedRequestDoesNotFailOthers() {
+        // Arrange
+        stubInserts();
+        RuntimeException duplicate = new RuntimeException("duplicate token");
+
+        // Act
+        CompletableFuture<Booking> failing = sequencer.submit(booking(10, 10), created -> {
+            throw duplicate;
+        });
+        CompletableFuture<Booking> other = sequencer.submit(booking(20, 21), created -> { });
+
+        // Assert
+        CompletionException error = assertThrows(CompletionException.class, failing::join);
+        assertSame(duplicate, error.getCause());
+        assertNotNull(other.join().getBookingId());
+        assertFalse(bookingIndex.hasOverlap(1L, day(10), day(10)));
+    }
+
+    private void stubInserts() {
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setBookingId(ids.incrementAndGet());
+            return booking;
+        });
+    }
+
+    private Booking booking(int fromDay, int toDay) {
+        Booking booking = new Booking();
+        booking.setVenue(venue);
+        booking.setUser(user);
+        booking.setEventDate(day(fromDay));
+        booking.setEndDate(day(toDay));
+        return booking;
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2030, 6, dayOfMonth);
+    }
+}
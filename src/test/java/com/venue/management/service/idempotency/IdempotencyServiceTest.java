@@ -0,0 +1,134 @@
+package com.venue.management.service.idempotency;
+
+import com.venue.management.entity.IdempotencyKey;
+import com.venue.management.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyService.
+ * Tests that a token runs its action once, failed attempts can be retried,
+ * and tokens claimed elsewhere return the recorded result.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String TOKEN = "6f1c2a9e-5b0d-4c1e-9a7f-2d3b4c5d6e7f";
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    private final Function<Long, String> loader = id -> "loaded-" + id;
+
+    @Test
+    void testExecute_RepeatedTokenReturnsOriginalResult() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        String first = idempotencyService.execute("payment", TOKEN, () -> "created-" + runs.incrementAndGet(),
+            created -> 7L, loader);
+        String second = idempotencyService.execute("payment", TOKEN, () -> "created-" + runs.incrementAndGet(),
+            created -> 7L, loader);
+
+        // Assert
+        assertEquals("created-1", first);
+        assertEquals("loaded-7", second);
+        assertEquals(1, runs.get());
+        verify(idempotencyKeyRepository).claim(eq("payment:" + TOKEN), any(LocalDateTime.class));
+        verify(idempotencyKeyRepository).recordResult("payment:" + TOKEN, 7L);
+    }
+
+    @Test
+    void testExecute_WithoutTokenAlwaysRunsInATransaction() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        idempotencyService.execute("booking", null, runs::incrementAndGet, created -> 1L, id -> 0);
+        idempotencyService.execute("booking", "", runs::incrementAndGet, created -> 1L, id -> 0);
+
+        // Assert
+        assertEquals(2, runs.get());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    void testExecute_FailedAttemptCanBeRetried() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        assertThrows(RuntimeException.class, () -> idempotencyService.execute("booking", TOKEN, () -> {
+            runs.incrementAndGet();
+            throw new RuntimeException("Venue is already booked for the selected date range.");
+        }, created -> 1L, loader));
+        String retried = idempotencyService.execute("booking", TOKEN, () -> "created-" + runs.incrementAndGet(),
+            created -> 3L, loader);
+
+        // Assert
+        assertEquals("created-2", retried);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void testExecute_TokenClaimedElsewhereReturnsRecordedResult() {
+        // Arrange
+        doThrow(new DuplicateKeyException("duplicate")).when(idempotencyKeyRepository)
+            .claim(eq("payment:" + TOKEN), any(LocalDateTime.class));
+        IdempotencyKey recorded = new IdempotencyKey("payment:" + TOKEN, LocalDateTime.now());
+        recorded.setResultId(42L);
+        when(idempotencyKeyRepository.findById("payment:" + TOKEN)).thenReturn(Optional.of(recorded));
+
+        // Act
+        String result = idempotencyService.execute("payment", TOKEN, () -> fail("must not run"), created -> 1L, loader);
+
+        // Assert
+        assertEquals("loaded-42", result);
+    }
+
+    @Test
+    void testExecute_ConstraintViolationInActionIsNotARepeat() {
+        // Arrange
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("venue_day_slots");
+
+        // Act & Assert
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+            () -> idempotencyService.execute("payment", TOKEN, () -> { throw violation; }, created -> 1L, loader)));
+        verify(idempotencyKeyRepository, never()).findById(anyString());
+        assertEquals("created", idempotencyService.execute("payment", TOKEN, () -> "created", created -> 1L, loader));
+    }
+
+    @Test
+    void testExecute_RejectsMalformedToken() {
+        // Act & Assert
+        assertThrows(RuntimeException.class,
+            () -> idempotencyService.execute("payment", "<script>", () -> "x", created -> 1L, loader));
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+}
@@ -0,0 +1,53 @@
+package com.venue.management.service.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ByteRange.
+ * Tests closed, open and suffix ranges, clamping, unsatisfiable and ignored headers.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class ByteRangeTest {
+
+    @Test
+    void testParse_ClosedOpenAndSuffixRanges() {
+        // Act & Assert
+        assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=0-99", 1000));
+        assertEquals(new ByteRange(500, 999), ByteRange.parse("bytes=500-", 1000));
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", 1000));
+        assertEquals(100, ByteRange.parse("bytes=0-99", 1000).length());
+    }
+
+    @Test
+    void testParse_ClampsToContentLength() {
+        // Act & Assert
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-5000", 1000));
+        assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", 1000));
+    }
+
+    @Test
+    void testParse_RangeOutsideContentIsUnsatisfiable() {
+        // Act
+        ByteRange range = ByteRange.parse("bytes=1000-", 1000);
+
+        // Assert
+        assertSame(ByteRange.UNSATISFIABLE, range);
+        assertFalse(range.isSatisfiable());
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+    }
+
+    @Test
+    void testParse_IgnoresMalformedAndMultipleRanges() {
+        // Act & Assert
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-1", 1000));
+        assertNull(ByteRange.parse("bytes=abc", 1000));
+        assertNull(ByteRange.parse("bytes=50-10", 1000));
+        assertNull(ByteRange.parse("bytes=0-1,5-9", 1000));
+        assertNull(ByteRange.parse("bytes=99999999999999999999-", 1000));
+    }
+}
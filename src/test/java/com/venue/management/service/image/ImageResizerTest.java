@@ -0,0 +1,64 @@
+package com.venue.management.service.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ImageResizer.
+ * Tests scaling, aspect ratio, no upscaling and JPEG output.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class ImageResizerTest {
+
+    @Test
+    void testResize_KeepsAspectRatio() {
+        // Arrange
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+        // Act
+        BufferedImage resized = ImageResizer.resize(source, ImageVariant.CARD.getWidth());
+
+        // Assert
+        assertEquals(480, resized.getWidth());
+        assertEquals(240, resized.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, resized.getType());
+    }
+
+    @Test
+    void testResize_DoesNotUpscale() {
+        // Arrange
+        BufferedImage source = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+
+        // Act
+        BufferedImage resized = ImageResizer.resize(source, ImageVariant.HERO.getWidth());
+
+        // Assert
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+    }
+
+    @Test
+    void testWriteJpeg_ReadsBackSubsampled() throws IOException {
+        // Arrange
+        BufferedImage source = new BufferedImage(1600, 800, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageResizer.writeJpeg(source, out, 0.8f);
+
+        // Act
+        BufferedImage read = ImageResizer.read(new ByteArrayInputStream(out.toByteArray()), 160);
+
+        // Assert
+        assertNotNull(ImageIO.read(new ByteArrayInputStream(out.toByteArray())));
+        assertTrue(read.getWidth() >= 160);
+        assertTrue(read.getWidth() < 1600);
+    }
+}
@@ -0,0 +1,76 @@
+package com.venue.management.service.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalImageStore.
+ * Tests content hashing, deduplication and lookups of unknown or malformed keys.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class LocalImageStoreTest {
+
+    @TempDir
+    Path storeDir;
+
+    @Test
+    void testStore_ReturnsSha256AndLoadsContent() throws IOException {
+        // Arrange
+        LocalImageStore store = new LocalImageStore(storeDir.toString());
+
+        // Act
+        String hash = store.store(stream("venue photo"));
+
+        // Assert
+        assertEquals("295a604c7d174f6b9e7008d56590b0fd6398dcceb03b9d903528047c18fccfaa", hash);
+        Optional<Resource> loaded = store.load(hash);
+        assertTrue(loaded.isPresent());
+        assertEquals("venue photo", new String(loaded.get().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testStore_DuplicateContentIsStoredOnce() throws IOException {
+        // Arrange
+        LocalImageStore store = new LocalImageStore(storeDir.toString());
+
+        // Act
+        String first = store.store(stream("same photo"));
+        String second = store.store(stream("same photo"));
+        String other = store.store(stream("other photo"));
+
+        // Assert
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        try (Stream<Path> files = Files.walk(storeDir)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testLoad_UnknownOrMalformedKeyIsEmpty() {
+        // Arrange
+        LocalImageStore store = new LocalImageStore(storeDir.toString());
+
+        // Act & Assert
+        assertTrue(store.load("0".repeat(64)).isEmpty());
+        assertTrue(store.load("../../etc/passwd").isEmpty());
+        assertTrue(store.load(null).isEmpty());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
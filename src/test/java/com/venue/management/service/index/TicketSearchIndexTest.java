@@ -0,0 +1,118 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.User;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.projection.TicketText;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TicketSearchIndex and TextAnalyzer.
+ * Tests stemming, BM25 ranking, incremental updates, and rebuilding from the repository.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TicketSearchIndexTest {
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @InjectMocks
+    private TicketSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.put(ticket(1L, "Payment failed when paying for my booking", "PAYMENT", null, "alice"));
+        searchIndex.put(ticket(2L, "Refund not received after cancelling booking", "REFUND", "Refund issued manually", "bob"));
+        searchIndex.put(ticket(3L, "Venue projector broken", "VENUE", null, "carol"));
+        searchIndex.put(ticket(4L, "Refund refund refund please, still waiting for refunds", "REFUND", null, "dave"));
+    }
+
+    @Test
+    void testAnalyze_StemsAndDropsStopWords() {
+        assertEquals(List.of("refund", "refund", "refund", "book", "cancel", "cancel"),
+            TextAnalyzer.analyze("Refunds refunded refunding the Bookings were cancelled; cancel"));
+    }
+
+    @Test
+    void testSearch_RanksByRelevance() {
+        // Act & Assert
+        assertEquals(List.of(4L, 2L), searchIndex.search("refunds", 10));
+        assertEquals(List.of(4L), searchIndex.search("refunds", 1));
+        assertEquals(List.of(2L), searchIndex.search("cancelled", 10));
+        assertEquals(List.of(1L), searchIndex.search("payments failing", 10));
+        assertEquals(List.of(1L), searchIndex.search("alice", 10));
+        assertTrue(searchIndex.search("the", 10).isEmpty());
+    }
+
+    @Test
+    void testPutAndRemove_UpdateTheIndex() {
+        // Act
+        searchIndex.put(ticket(3L, "Venue projector broken", "VENUE", "Projector replaced; refund offered", "carol"));
+        searchIndex.remove(2L);
+
+        // Assert
+        assertEquals(List.of(4L, 3L), searchIndex.search("refund", 10));
+    }
+
+    @Test
+    void testSearch_ByOwner_RanksOnlyTheirTickets() {
+        // Arrange: the owner's ticket ranks below another customer's for the same term
+        SupportTicket own = ticket(5L, "Refund for my booking", "REFUND", null, "erin");
+        own.getCustomer().setUserId(42L);
+        SupportTicket other = ticket(6L, "Refund refund refund", "REFUND", null, "frank");
+        other.getCustomer().setUserId(43L);
+        searchIndex.put(own);
+        searchIndex.put(other);
+
+        // Act & Assert
+        assertNotEquals(List.of(5L), searchIndex.search("refund", 1));
+        assertEquals(List.of(5L), searchIndex.search("refund", 42L, 1));
+        assertTrue(searchIndex.search("projector", 42L, 10).isEmpty());
+    }
+
+    @Test
+    void testRebuild_LoadsSearchTextsFromRepository() {
+        // Arrange
+        TicketText text = mock(TicketText.class);
+        when(text.getTicketId()).thenReturn(7L);
+        when(text.getIssueDescription()).thenReturn("Wi-Fi keeps dropping");
+        when(text.getIssueType()).thenReturn("VENUE");
+        when(text.getResolutionNotes()).thenReturn(null);
+        when(text.getUsername()).thenReturn("erin");
+        when(text.getCustomerId()).thenReturn(42L);
+        when(supportTicketRepository.findSearchTexts()).thenReturn(List.of(text));
+
+        // Act
+        searchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(7L), searchIndex.search("dropped", 10));
+        assertEquals(List.of(7L), searchIndex.search("dropped", 42L, 10));
+        assertTrue(searchIndex.search("refund", 10).isEmpty());
+    }
+
+    private SupportTicket ticket(Long id, String description, String issueType, String notes, String username) {
+        User customer = new User();
+        customer.setUsername(username);
+        SupportTicket ticket = new SupportTicket();
+        ticket.setTicketId(id);
+        ticket.setIssueDescription(description);
+        ticket.setIssueType(issueType);
+        ticket.setResolutionNotes(notes);
+        ticket.setCustomer(customer);
+        return ticket;
+    }
+}
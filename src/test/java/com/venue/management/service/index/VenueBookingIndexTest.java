@@ -0,0 +1,154 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.projection.BookingInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VenueBookingIndex.
+ * Tests overlap detection, incremental updates, and rebuilding from the repository.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class VenueBookingIndexTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private VenueBookingIndex bookingIndex;
+
+    private Venue venue;
+    private LocalDate base;
+
+    @BeforeEach
+    void setUp() {
+        venue = new Venue();
+        venue.setVenueId(1L);
+        base = LocalDate.of(2025, 6, 1);
+    }
+
+    @Test
+    void testHasOverlap_EmptyVenue() {
+        assertFalse(bookingIndex.hasOverlap(1L, base, base.plusDays(3)));
+    }
+
+    @Test
+    void testHasOverlap_DetectsEdgesAndGaps() {
+        // Arrange
+        bookingIndex.add(booking(1L, base, base.plusDays(2), BookingStatus.CONFIRMED));
+        bookingIndex.add(booking(2L, base.plusDays(10), base.plusDays(12), BookingStatus.PENDING));
+
+        // Act & Assert
+        assertTrue(bookingIndex.hasOverlap(1L, base.plusDays(2), base.plusDays(4)));
+        assertTrue(bookingIndex.hasOverlap(1L, base.minusDays(5), base));
+        assertTrue(bookingIndex.hasOverlap(1L, base.plusDays(5), base.plusDays(10)));
+        assertFalse(bookingIndex.hasOverlap(1L, base.plusDays(3), base.plusDays(9)));
+        assertFalse(bookingIndex.hasOverlap(2L, base, base.plusDays(2)));
+    }
+
+    @Test
+    void testHasOverlap_NestedIntervals() {
+        // Arrange: a long booking followed by a short one starting later
+        bookingIndex.add(booking(1L, base, base.plusDays(30), BookingStatus.CONFIRMED));
+        bookingIndex.add(booking(2L, base.plusDays(3), base.plusDays(4), BookingStatus.CONFIRMED));
+
+        // Act & Assert
+        assertTrue(bookingIndex.hasOverlap(1L, base.plusDays(20), base.plusDays(21)));
+    }
+
+    @Test
+    void testAdd_CancelledBookingIsRemoved() {
+        // Arrange
+        Booking booking = booking(1L, base, base.plusDays(2), BookingStatus.CONFIRMED);
+        bookingIndex.add(booking);
+
+        // Act
+        booking.setStatus(BookingStatus.CANCELLED);
+        bookingIndex.add(booking);
+
+        // Assert
+        assertFalse(bookingIndex.hasOverlap(1L, base, base.plusDays(2)));
+    }
+
+    @Test
+    void testHasOverlap_ExpiredHoldStopsCounting() {
+        // Arrange: an expired hold overlapping a live one and a confirmed booking
+        Booking expired = booking(1L, base, base.plusDays(5), BookingStatus.HELD);
+        expired.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+        Booking live = booking(2L, base.plusDays(4), base.plusDays(5), BookingStatus.HELD);
+        live.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+        bookingIndex.add(expired);
+        bookingIndex.add(live);
+        bookingIndex.add(booking(3L, base.plusDays(8), base.plusDays(9), BookingStatus.CONFIRMED));
+
+        // Act & Assert
+        assertFalse(bookingIndex.hasOverlap(1L, base, base.plusDays(3)));
+        assertTrue(bookingIndex.hasOverlap(1L, base.plusDays(3), base.plusDays(4)));
+        assertTrue(bookingIndex.hasOverlap(1L, base.plusDays(9), base.plusDays(9)));
+    }
+
+    @Test
+    void testRemoveVenue() {
+        // Arrange
+        bookingIndex.add(booking(1L, base, base.plusDays(2), BookingStatus.CONFIRMED));
+        Booking hold = booking(2L, base.plusDays(4), base.plusDays(5), BookingStatus.HELD);
+        hold.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+        bookingIndex.add(hold);
+
+        // Act
+        bookingIndex.removeVenue(1L);
+
+        // Assert
+        assertFalse(bookingIndex.hasOverlap(1L, base, base.plusDays(2)));
+        assertFalse(bookingIndex.hasOverlap(1L, base.plusDays(4), base.plusDays(5)));
+        assertEquals(Map.of(), ReflectionTestUtils.getField(bookingIndex, "holdExpiries"));
+    }
+
+    @Test
+    void testRebuild_LoadsActiveIntervals() {
+        // Arrange
+        BookingInterval interval = mock(BookingInterval.class);
+        when(interval.getBookingId()).thenReturn(5L);
+        when(interval.getVenueId()).thenReturn(1L);
+        when(interval.getEventDate()).thenReturn(base);
+        when(interval.getEndDate()).thenReturn(null);
+        when(bookingRepository.findActiveIntervals()).thenReturn(List.of(interval));
+
+        // Act
+        bookingIndex.rebuild();
+
+        // Assert
+        assertTrue(bookingIndex.hasOverlap(1L, base, base));
+        assertFalse(bookingIndex.hasOverlap(1L, base.plusDays(1), base.plusDays(1)));
+    }
+
+    private Booking booking(Long id, LocalDate from, LocalDate to, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setBookingId(id);
+        booking.setVenue(venue);
+        booking.setEventDate(from);
+        booking.setEndDate(to);
+        booking.setStatus(status);
+        return booking;
+    }
+}
@@ -0,0 +1,118 @@
+package com.venue.management.service.index;
+
+import com.venue.management.entity.Venue;
+import com.venue.management.entity.VenueStatus;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.repository.projection.VenueText;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VenueSearchIndex.
+ * Tests substring and prefix matching, ranking, incremental updates, and rebuilding from the repository.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class VenueSearchIndexTest {
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @InjectMocks
+    private VenueSearchIndex searchIndex;
+
+    @Test
+    void testSearch_MatchesSubstringsOfNameAndLocation() {
+        // Arrange
+        searchIndex.put(venue(1L, "Grand Ballroom", "Downtown"));
+        searchIndex.put(venue(2L, "Riverside Hall", "Old Town"));
+        searchIndex.put(venue(3L, "Sky Terrace", "Harbour"));
+
+        // Act & Assert
+        assertEquals(List.of(1L), searchIndex.search("ballroom"));
+        assertEquals(List.of(1L, 2L), searchIndex.search("TOWN"));
+        assertEquals(List.of(3L), searchIndex.search("harb"));
+        assertTrue(searchIndex.search("xyz").isEmpty());
+        assertTrue(searchIndex.search("  ").isEmpty());
+    }
+
+    @Test
+    void testSearch_ShortQueriesMatchWordPrefixes() {
+        // Arrange
+        searchIndex.put(venue(1L, "Grand Ballroom", "Downtown"));
+        searchIndex.put(venue(2L, "Riverside Hall", "Old Town"));
+
+        // Act & Assert
+        assertEquals(List.of(1L), searchIndex.search("gr"));
+        assertEquals(List.of(1L), searchIndex.search("d"));
+        assertEquals(List.of(2L), searchIndex.search("t"));
+        assertTrue(searchIndex.search("wn").isEmpty());
+    }
+
+    @Test
+    void testSearch_RanksCloserMatchesFirstAndToleratesTypo() {
+        // Arrange
+        searchIndex.put(venue(1L, "Garden Pavilion and Conference Centre", "North Park"));
+        searchIndex.put(venue(2L, "Garden Pavilion", "Park"));
+
+        // Act & Assert
+        assertEquals(List.of(2L, 1L), searchIndex.search("garden pavilion"));
+        assertEquals(List.of(2L, 1L), searchIndex.search("garden pavillion"));
+    }
+
+    @Test
+    void testPutAndRemove_UpdateTheIndex() {
+        // Arrange
+        Venue venue = venue(1L, "Old Name", "Uptown");
+        searchIndex.put(venue);
+        venue.setVenueName("New Name");
+
+        // Act
+        searchIndex.put(venue);
+
+        // Assert
+        assertTrue(searchIndex.search("old").isEmpty());
+        assertEquals(List.of(1L), searchIndex.search("new"));
+
+        searchIndex.remove(1L);
+        assertTrue(searchIndex.search("new").isEmpty());
+    }
+
+    @Test
+    void testRebuild_LoadsSearchTextsFromRepository() {
+        // Arrange
+        searchIndex.put(venue(9L, "Stale Venue", "Nowhere"));
+        VenueText text = mock(VenueText.class);
+        when(text.getVenueId()).thenReturn(1L);
+        when(text.getVenueName()).thenReturn("Lakeside Lodge");
+        when(text.getLocation()).thenReturn("Lake District");
+        when(text.getStatus()).thenReturn(VenueStatus.AVAILABLE);
+        when(venueRepository.findSearchTexts()).thenReturn(List.of(text));
+
+        // Act
+        searchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(1L), searchIndex.search("lake"));
+        assertEquals(List.of(1L), searchIndex.search("available"));
+        assertTrue(searchIndex.search("stale").isEmpty());
+    }
+
+    private Venue venue(Long id, String name, String location) {
+        Venue venue = new Venue();
+        venue.setVenueId(id);
+        venue.setVenueName(name);
+        venue.setLocation(location);
+        return venue;
+    }
+}
@@ -0,0 +1,97 @@
+package com.venue.management.service.payment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PaymentGatewayClient.
+ * Tests retries of transient failures, final declines, timeouts and the bulkhead.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+class PaymentGatewayClientTest {
+
+    private final ChargeRequest request = ChargeRequest.forPayment(1L, 1L, 3000.0);
+
+    @Test
+    void testCharge_RetriesTransientFailure() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        PaymentGateway gateway = charge -> calls.incrementAndGet() == 1
+            ? CompletableFuture.failedFuture(new GatewayUnavailableException("down"))
+            : CompletableFuture.completedFuture(ChargeResult.approved("tx-1"));
+        PaymentGatewayClient client = new PaymentGatewayClient(gateway, 1000, 4, 3, 1);
+
+        // Act
+        ChargeResult result = client.charge(request).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(result.approved());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testCharge_DeclineIsNotRetried() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        PaymentGateway gateway = charge -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(ChargeResult.declined("insufficient funds"));
+        };
+        PaymentGatewayClient client = new PaymentGatewayClient(gateway, 1000, 4, 3, 1);
+
+        // Act
+        ChargeResult result = client.charge(request).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(result.approved());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testCharge_TimesOutEachAttemptAndGivesUp() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        PaymentGateway gateway = charge -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        };
+        PaymentGatewayClient client = new PaymentGatewayClient(gateway, 20, 4, 2, 1);
+
+        // Act
+        ExecutionException error = assertThrows(ExecutionException.class,
+            () -> client.charge(request).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testCharge_FullBulkheadFailsFast() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        PaymentGateway gateway = charge -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        };
+        PaymentGatewayClient client = new PaymentGatewayClient(gateway, 60000, 1, 1, 1);
+        client.charge(request);
+
+        // Act
+        ExecutionException error = assertThrows(ExecutionException.class,
+            () -> client.charge(request).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(GatewayUnavailableException.class, error.getCause());
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,94 @@
+package com.venue.management.service.retry;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OptimisticRetry.
+ * Tests that a transition losing to a concurrent update is redone in a new transaction,
+ * and that a conflict which persists is reported as a ConcurrentUpdateException.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OptimisticRetry optimisticRetry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(optimisticRetry, "maxAttempts", 3);
+        ReflectionTestUtils.setField(optimisticRetry, "backoffMs", 0L);
+    }
+
+    @Test
+    void testExecute_ConflictIsRetried() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = optimisticRetry.execute("Booking #1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Booking.class, 1L);
+            }
+            return "CANCELLED";
+        });
+
+        // Assert
+        assertEquals("CANCELLED", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void testExecute_PersistentConflict_IsReported() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        ConcurrentUpdateException error = assertThrows(ConcurrentUpdateException.class,
+            () -> optimisticRetry.execute("Booking #1", () -> {
+                attempts.incrementAndGet();
+                throw new ObjectOptimisticLockingFailureException(Booking.class, 1L);
+            }));
+        assertEquals(3, attempts.get());
+        assertEquals("Booking #1 was changed by someone else at the same time. Please reload and try again.",
+            error.getMessage());
+    }
+
+    @Test
+    void testExecute_OtherErrorsAreNotRetried() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        RuntimeException error = assertThrows(RuntimeException.class,
+            () -> optimisticRetry.execute("Booking #1", () -> {
+                attempts.incrementAndGet();
+                throw new RuntimeException("Booking not found with id: 1");
+            }));
+        assertEquals("Booking not found with id: 1", error.getMessage());
+        assertEquals(1, attempts.get());
+    }
+}
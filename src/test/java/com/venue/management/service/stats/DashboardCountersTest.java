@@ -0,0 +1,100 @@
+package com.venue.management.service.stats;
+
+import com.venue.management.entity.BookingStatus;
+import com.venue.management.entity.PaymentStatus;
+import com.venue.management.entity.TicketStatus;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.projection.StatusCount;
+import com.venue.management.repository.projection.StatusTotal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardCounters.
+ * Tests reconciliation from the database and incremental updates.
+ *
+ * @author Event Venue Management System
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardCountersTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @InjectMocks
+    private DashboardCounters counters;
+
+    @Test
+    void testReconcile_LoadsGroupedTotals() {
+        // Arrange
+        when(paymentRepository.sumByPaymentStatus()).thenReturn(List.of(
+            total(PaymentStatus.SUCCESS, 3L, 4500.0), total(PaymentStatus.REFUNDED, 1L, 500.0)));
+        when(bookingRepository.countByStatus()).thenReturn(List.of(count(BookingStatus.PENDING, 2L), count(null, 1L)));
+        when(supportTicketRepository.countByStatus()).thenReturn(List.of(count(TicketStatus.OPEN, 4L)));
+
+        // Act
+        counters.reconcile();
+
+        // Assert
+        assertEquals(3L, counters.getPaymentCount(PaymentStatus.SUCCESS));
+        assertEquals(500.0, counters.getPaymentTotal(PaymentStatus.REFUNDED));
+        assertEquals(5000.0, counters.getPaymentTotal());
+        assertEquals(3L, counters.getBookingCount());
+        assertEquals(1L, counters.getBookingCount(null));
+        assertEquals(4L, counters.getTicketCount(TicketStatus.OPEN));
+    }
+
+    @Test
+    void testUpdates_MoveCountsAndAmountsBetweenStatuses() {
+        // Act
+        counters.paymentCreated(PaymentStatus.SUCCESS, 1000.0);
+        counters.paymentCreated(PaymentStatus.SUCCESS, 2000.0);
+        counters.paymentChanged(PaymentStatus.SUCCESS, PaymentStatus.REFUNDED, 2000.0);
+        counters.bookingCreated(BookingStatus.PENDING);
+        counters.bookingChanged(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+        counters.ticketCreated(TicketStatus.OPEN);
+        counters.ticketChanged(TicketStatus.OPEN, TicketStatus.RESOLVED);
+
+        // Assert
+        assertEquals(1L, counters.getPaymentCount(PaymentStatus.SUCCESS));
+        assertEquals(1L, counters.getPaymentCount(PaymentStatus.REFUNDED));
+        assertEquals(2000.0, counters.getPaymentTotal(PaymentStatus.REFUNDED));
+        assertEquals(3000.0, counters.getPaymentTotal());
+        assertEquals(0L, counters.getBookingCount(BookingStatus.PENDING));
+        assertEquals(1L, counters.getBookingCount());
+        assertEquals(0L, counters.getTicketCount(TicketStatus.OPEN));
+        verifyNoInteractions(paymentRepository, bookingRepository, supportTicketRepository);
+    }
+
+    private StatusTotal total(Enum<?> status, Long count, Double amount) {
+        return new StatusTotal() {
+            public Enum<?> getStatus() { return status; }
+            public Long getCount() { return count; }
+            public Double getTotal() { return amount; }
+        };
+    }
+
+    private StatusCount count(Enum<?> status, Long count) {
+        return new StatusCount() {
+            public Enum<?> getStatus() { return status; }
+            public Long getCount() { return count; }
+        };
+    }
+}